@@ -0,0 +1,71 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.constant.Constant;
+import com.example.withpeace.security.info.JwtUserInfo;
+import com.example.withpeace.type.ERole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 경로 비교
+ * - legacyValidate: 요청마다 JwtParser 생성 + 서명 검증 + String/Long 변환 (기존 방식)
+ * - sharedParserValidate: 재사용 JwtParser 로 매번 서명 검증
+ * - cachedVerify: 검증 결과 캐시 사용 (같은 토큰 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    // 벤치마크 전용 HS512 키 (64 byte, Base64)
+    private static final String SECRET_KEY =
+            "d2l0aHBlYWNlLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduYXR1cmUtdmVyaWZpY2F0aW9uLXRlc3Q=";
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        Field secretKeyField = JwtUtil.class.getDeclaredField("secretKey");
+        secretKeyField.setAccessible(true);
+        secretKeyField.set(jwtUtil, SECRET_KEY);
+        jwtUtil.afterPropertiesSet();
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        accessToken = jwtUtil.generateAccessToken(1L, ERole.USER, jwtUtil.getAccessTokenExpriration());
+    }
+
+    @Benchmark
+    public JwtUserInfo legacyValidate() {
+        final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        final Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
+        return new JwtUserInfo(
+                Long.valueOf(claims.get(Constant.USER_ID_CLAIM_NAME, String.class)),
+                ERole.valueOf(claims.get(Constant.USER_ROLE_CLAIM_NAME, String.class))
+        );
+    }
+
+    @Benchmark
+    public JwtUserInfo sharedParserValidate() {
+        final Claims claims = jwtUtil.validateToken(accessToken);
+        return new JwtUserInfo(
+                Long.parseLong((String) claims.get(Constant.USER_ID_CLAIM_NAME)),
+                ERole.valueOf((String) claims.get(Constant.USER_ROLE_CLAIM_NAME))
+        );
+    }
+
+    @Benchmark
+    public JwtUserInfo cachedVerify() {
+        return jwtUtil.verifyAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 밸런스게임 선택 집계 실시간 전송 (SSE)
+ * - 노드의 전용 스레드가 주기(기본 500ms)마다 구독 중인 게임의 집계를 한 번에 읽고, 바뀐 경우에만 모든 구독자에게 전송
+ * - 구독자 수와 관계없이 주기당 Redis 조회는 한 번 (파이프라인)
+ * - 변경이 없어도 heartbeat 주석을 보내 프록시의 유휴 연결 종료를 막고 끊긴 연결을 정리
+ * - 전송은 크기가 제한된 전송 풀에서 실행하여 느린 클라이언트가 조회 스레드를 막지 않음
+ *   구독자별로 한 번에 하나만 전송하고 밀린 집계는 최신 값으로 합침, send-timeout 안에 끝나지 않으면 연결 종료
+ * - 노드당 구독자 수는 max-subscribers 로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceGameBroadcaster {
+
+    private static final String TALLY_EVENT = "tally";
+
+    private final BalanceGameTally balanceGameTally;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${balance-game.stream.interval:PT0.5S}")
+    private Duration interval;
+
+    @Value("${balance-game.stream.heartbeat:PT15S}")
+    private Duration heartbeat;
+
+    @Value("${balance-game.stream.timeout:PT30M}")
+    private Duration timeout; // 만료 후 클라이언트(EventSource)가 자동 재연결
+
+    @Value("${balance-game.stream.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${balance-game.stream.send-threads:4}")
+    private int sendThreadCount;
+
+    @Value("${balance-game.stream.send-timeout:PT5S}")
+    private Duration sendTimeout;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>(); // 게임 ID -> 구독자
+    private final Map<Long, BalanceGameTally.Tally> lastSent = new ConcurrentHashMap<>(); // 게임 ID -> 마지막 전송 집계
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService executor;
+    private ThreadPoolExecutor sendExecutor;
+    private long lastHeartbeatAt;
+
+    private Counter sentCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() {
+        sentCounter = Counter.builder("balance_game.stream.sent")
+                .description("구독자에게 전송한 밸런스게임 집계 이벤트 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("balance_game.stream.dropped")
+                .description("전송 지연/거절로 종료한 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("balance_game.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-game-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadIndex = new AtomicInteger();
+        sendExecutor = new ThreadPoolExecutor(sendThreadCount, sendThreadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), // 구독자별 전송은 최대 1건이므로 구독자 수로 충분
+                runnable -> {
+                    Thread thread = new Thread(runnable, "balance-game-sender-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        lastHeartbeatAt = System.nanoTime();
+        executor.scheduleWithFixedDelay(this::tick, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        sendExecutor.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    /**
+     * 게임 구독
+     * - 현재 집계를 바로 전송한 뒤 이후에는 변경분만 전송
+     * - 노드의 구독자 수가 max-subscribers 에 도달하면 예외 (클라이언트가 다른 노드로 재시도)
+     */
+    public SseEmitter subscribe(Long gameId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CommonException(ErrorCode.TOO_MANY_STREAM_SUBSCRIBERS);
+        }
+
+        Subscriber subscriber = new Subscriber(gameId, new SseEmitter(timeout.toMillis()));
+        subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        Runnable remove = () -> unsubscribe(subscriber);
+        subscriber.emitter.onCompletion(remove);
+        subscriber.emitter.onTimeout(remove);
+        subscriber.emitter.onError(error -> remove.run());
+
+        BalanceGameTally.Tally tally = lastSent.get(gameId);
+        if (tally == null) tally = balanceGameTally.getTallies(List.of(gameId)).get(gameId);
+        if (tally != null) subscriber.offer(tally);
+        return subscriber.emitter;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.gameId, (id, set) -> {
+            removed.set(set.remove(subscriber));
+            return set.isEmpty() ? null : set;
+        });
+        if (removed.get()) subscriberCount.decrementAndGet();
+    }
+
+    // 느린/끊긴 구독 종료
+    private void drop(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        droppedCounter.increment();
+        subscriber.emitter.complete();
+    }
+
+    private void tick() {
+        try {
+            List<Long> gameIds = new ArrayList<>(subscribers.keySet());
+            lastSent.keySet().retainAll(gameIds); // 구독자가 없는 게임 정리
+            if (gameIds.isEmpty()) return;
+
+            // 전송이 send-timeout 을 넘긴 구독 종료
+            long now = System.nanoTime();
+            subscribers.values().forEach(set -> set.stream()
+                    .filter(subscriber -> subscriber.isStuck(now))
+                    .toList()
+                    .forEach(this::drop));
+
+            // 구독 중인 모든 게임을 한 번에 조회
+            Map<Long, BalanceGameTally.Tally> tallies = balanceGameTally.getTallies(gameIds);
+            for (Long gameId : gameIds) {
+                BalanceGameTally.Tally tally = tallies.get(gameId);
+                if (tally == null || tally.equals(lastSent.put(gameId, tally))) continue;
+
+                subscribers.getOrDefault(gameId, Set.of()).forEach(subscriber -> subscriber.offer(tally));
+            }
+
+            if (System.nanoTime() - lastHeartbeatAt >= heartbeat.toNanos()) {
+                lastHeartbeatAt = System.nanoTime();
+                subscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+            }
+        } catch (Exception e) {
+            log.error("Failed to broadcast balance game tally: {}", e.getMessage(), e);
+        }
+    }
+
+    // 구독 연결 (전송은 한 번에 하나, 밀린 집계는 최신 값만 유지)
+    private class Subscriber {
+
+        private final Long gameId;
+        private final SseEmitter emitter;
+        private final AtomicReference<BalanceGameTally.Tally> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        private void offer(BalanceGameTally.Tally tally) {
+            pending.set(tally);
+            schedule();
+        }
+
+        // 전송 중이면 생략 (전송 자체가 연결 유지 역할)
+        private void heartbeat() {
+            if (sending.get()) return;
+            dispatch(() -> send(SseEmitter.event().comment("heartbeat"), false));
+        }
+
+        private boolean isStuck(long now) {
+            return sending.get() && now - sendStartedAt > sendTimeout.toNanos();
+        }
+
+        private void schedule() {
+            if (pending.get() == null) return;
+            dispatch(() -> {
+                BalanceGameTally.Tally tally = pending.getAndSet(null);
+                if (tally != null) send(SseEmitter.event().name(TALLY_EVENT).data(tally, MediaType.APPLICATION_JSON), true);
+            });
+        }
+
+        private void dispatch(Runnable task) {
+            if (!sending.compareAndSet(false, true)) return; // 진행 중인 전송이 끝나면 pending 을 이어서 전송
+            sendStartedAt = System.nanoTime();
+            try {
+                sendExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        sending.set(false);
+                    }
+                    schedule();
+                });
+            } catch (RejectedExecutionException e) {
+                sending.set(false);
+                drop(this);
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event, boolean countSent) {
+            try {
+                emitter.send(event);
+                if (countSent) sentCounter.increment();
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this); // 끊긴 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.type.EChoice;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 밸런스게임 선택 비동기 저장
+ * - BalanceGameTally 가 Redis 에 반영한 투표를 큐에 쌓아 단일 스레드에서 배치 upsert (같은 (게임, 사용자)는 마지막 선택만 반영)
+ * - 큐가 가득 차면 호출 스레드에서 바로 저장하여 투표를 잃지 않음
+ * - 투표 순서(seq)가 저장된 값보다 클 때만 선택을 바꾸어, 다른 서버의 큐에 있던 이전 투표가 최신 투표를 덮어쓰지 않음
+ * - 저장 실패 시 지수 백오프로 재시도하고, 그래도 실패하면 큐 뒤에 다시 넣음 (Redis 집계에 반영된 투표를 버리지 않음)
+ * - 저장할 투표가 남아 있는 동안 balance_game:writer:busy (ZSET, 노드 -> 만료 시각)에 노드를 등록하여
+ *   다른 노드(집계 보정을 실행하는 worker)도 클러스터 전체의 저장 대기 여부를 확인할 수 있음
+ *   노드가 비정상 종료되어도 busy-ttl 이 지나면 대기 중이 아닌 것으로 판단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceGameChoiceWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO balance_game_choices (game_id, user_id, choice, seq, create_date) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "choice = IF(VALUES(seq) > COALESCE(seq, 0), VALUES(choice), choice), " + // seq 보다 먼저 갱신 (이전 seq 와 비교)
+            "seq = GREATEST(COALESCE(seq, 0), VALUES(seq))";
+    private static final String BUSY_KEY = "balance_game:writer:busy";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String node = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+
+    @Value("${balance-game.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${balance-game.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${balance-game.writer.max-attempts:5}")
+    private int maxAttempts; // 한 번에 연속 재시도할 횟수 (넘으면 큐 뒤에 다시 넣음)
+
+    @Value("${balance-game.writer.backoff:PT0.2S}")
+    private Duration backoff;
+
+    @Value("${balance-game.writer.busy-ttl:PT30S}")
+    private Duration busyTtl; // 저장 대기 표시 유지 시간 (대기 중에는 busy-ttl/3 마다 갱신)
+
+    private BlockingQueue<Vote> queue;
+    private ExecutorService executor;
+    private volatile boolean running;
+    private volatile boolean retrying;
+    private long busyPublishedAt; // 마지막 대기 표시 시각 (0: 표시 안 함, 저장 스레드 전용)
+
+    private Counter failedCounter;
+    private Counter retriedCounter;
+    private Counter overflowCounter;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        failedCounter = Counter.builder("balance_game.writer.failed")
+                .description("재시도 후에도 저장하지 못하고 큐에 다시 넣지 못한 밸런스게임 선택 수")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder("balance_game.writer.retried")
+                .description("저장 실패로 재시도한 밸런스게임 선택 수")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("balance_game.writer.overflow")
+                .description("큐가 가득 차 동기 저장한 밸런스게임 선택 수")
+                .register(meterRegistry);
+        Gauge.builder("balance_game.writer.queue.size", queue, Queue::size)
+                .register(meterRegistry);
+
+        running = true;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-game-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false; // 남은 선택은 모두 저장한 뒤 종료
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Balance game writer did not finish. remaining={}", queue.size());
+        }
+    }
+
+    public void submit(Long gameId, Long userId, EChoice choice, long seq) {
+        Vote vote = new Vote(gameId, userId, choice, seq, LocalDateTime.now());
+        if (!queue.offer(vote)) {
+            overflowCounter.increment();
+            writeNow(vote);
+        }
+    }
+
+    /**
+     * 클러스터의 모든 노드에 대기 중이거나 재시도 중인 저장이 없는지 (집계 정합성 보정 전 확인)
+     * - Redis 를 확인할 수 없으면 대기 중인 것으로 판단 (보정 생략)
+     */
+    public boolean isIdleEverywhere() {
+        if (!queue.isEmpty() || retrying) return false;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(BUSY_KEY, 0, System.currentTimeMillis()); // 만료된 노드 정리
+            Long busyNodes = redisTemplate.opsForZSet().zCard(BUSY_KEY);
+            return busyNodes != null && busyNodes == 0;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read balance game writer state: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 저장 대기 표시 (busy-ttl/3 이내에 이미 표시했으면 생략)
+    private void markBusy() {
+        long now = System.currentTimeMillis();
+        if (busyPublishedAt != 0 && now - busyPublishedAt < busyTtl.toMillis() / 3) return;
+        try {
+            redisTemplate.opsForZSet().add(BUSY_KEY, node, now + busyTtl.toMillis());
+            redisTemplate.expire(BUSY_KEY, busyTtl);
+            busyPublishedAt = now;
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish balance game writer state: {}", e.getMessage());
+        }
+    }
+
+    private void markIdle() {
+        if (busyPublishedAt == 0) return;
+        try {
+            redisTemplate.opsForZSet().remove(BUSY_KEY, node);
+            busyPublishedAt = 0;
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear balance game writer state: {}", e.getMessage()); // busy-ttl 후 만료
+        }
+    }
+
+    private void writeNow(Vote vote) {
+        jdbcTemplate.update(UPSERT_SQL, vote.args());
+    }
+
+    private void flush(List<Vote> batch) throws InterruptedException {
+        // 같은 (게임, 사용자)는 가장 최근(seq 가 큰) 선택만 반영
+        Map<String, Vote> latest = new LinkedHashMap<>();
+        for (Vote vote : batch) {
+            latest.merge(vote.key(), vote, (current, next) -> next.seq() > current.seq() ? next : current);
+        }
+        List<Object[]> args = latest.values().stream().map(Vote::args).toList();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+                retrying = false;
+                return;
+            } catch (Exception e) {
+                retrying = true;
+                markBusy(); // 재시도가 길어져도 표시 유지
+                log.warn("Failed to write balance game choices. size={}, attempt={}, error={}", latest.size(), attempt, e.getMessage());
+                if (attempt >= maxAttempts) break;
+                retriedCounter.increment(latest.size());
+                Thread.sleep(backoff.toMillis() << Math.min(attempt - 1, 10));
+            }
+        }
+
+        // 연속 재시도 실패 -> 큐 뒤에 다시 넣어 다음 배치와 함께 재시도
+        int dropped = 0;
+        for (Vote vote : latest.values()) {
+            if (!queue.offer(vote)) dropped++;
+        }
+        if (dropped > 0) {
+            failedCounter.increment(dropped);
+            log.error("Dropped balance game choices after retries. dropped={}", dropped);
+        }
+    }
+
+    private void run() {
+        List<Vote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Vote first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                markBusy();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+                if (queue.isEmpty() && !retrying) markIdle();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error in balance game writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        markIdle();
+    }
+
+    private record Vote(Long gameId, Long userId, EChoice choice, long seq, LocalDateTime requestedAt) {
+        String key() {
+            return gameId + ":" + userId;
+        }
+
+        Object[] args() {
+            return new Object[]{gameId, userId, choice.name(), seq, Timestamp.valueOf(requestedAt)};
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.dto.response.BalanceGameResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 밸런스게임 목록 페이지 캐시 (사용자별 값인 userChoice 를 제외한 공통 응답)
+ * - 키: (날짜, 페이지 번호, 페이지 크기), 날짜가 바뀌면 "오늘의 밸런스게임", 활성 여부, 다음 게임 여부가 달라지므로 자정에 전체 제거
+ * - 투표 시 해당 게임의 선택 수만 캐시된 페이지 안에서 교체, 댓글 등록 시 해당 게임이 포함된 페이지 제거
+ * - 로컬 캐시이므로 다른 서버의 투표/댓글은 TTL(기본 5초) 이내 반영
+ */
+@Component
+public class BalanceGamePageCache {
+
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    private record PageKey(LocalDate date, int pageIndex, int pageSize) {}
+
+    private final Cache<PageKey, List<BalanceGameResponseDto>> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(TTL)
+            .maximumSize(100)
+            .build();
+
+    public List<BalanceGameResponseDto> get(int pageIndex, int pageSize, Supplier<List<BalanceGameResponseDto>> loader) {
+        return localCache.get(new PageKey(LocalDate.now(), pageIndex, pageSize), key -> loader.get());
+    }
+
+    // 투표 결과 반영 (해당 게임이 포함된 페이지의 선택 수만 교체)
+    public void updateCounts(Long gameId, long optionACount, long optionBCount) {
+        localCache.asMap().replaceAll((key, games) -> games.stream().anyMatch(game -> game.gameId().equals(gameId))
+                ? games.stream().map(game -> game.gameId().equals(gameId) ? game.withCounts(optionACount, optionBCount) : game).toList()
+                : games);
+    }
+
+    // 게임이 포함된 페이지 제거 (트랜잭션 진행 중이면 완료 이후 한 번 더 제거)
+    public void evictGame(Long gameId) {
+        evictGameNow(gameId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictGameNow(gameId);
+                }
+            });
+        }
+    }
+
+    // 전체 제거 (자정 게임 교체, 댓글 작성자 닉네임/프로필 이미지 변경 시 UserService 에서 호출), 트랜잭션 진행 중이면 완료 이후 한 번 더 제거
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictAll() {
+        localCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    localCache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private void evictGameNow(Long gameId) {
+        localCache.asMap().values().removeIf(games -> games.stream().anyMatch(game -> game.gameId().equals(gameId)));
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.domain.BalanceGame;
+import com.example.withpeace.repository.BalanceGameChoiceRepository;
+import com.example.withpeace.repository.BalanceGameRepository;
+import com.example.withpeace.type.EChoice;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 밸런스게임 실시간 선택 집계 (Redis HASH)
+ * - balance_game:tally:{gameId} : 선택지별 개수, 적재 표시(_loaded), 변경 버전(_v)
+ * - balance_game:votes:{gameId} : 사용자 ID -> 선택 (선택 변경 시 이전 선택 차감용)
+ * - 투표는 Lua 스크립트 한 번으로 이전 선택 차감/새 선택 증가를 원자적으로 처리하고, DB 저장은 BalanceGameChoiceWriter 가 비동기로 처리
+ * - 주기적으로 DB 집계와 맞추되, 한 주기 동안 투표가 없었던(버전이 같은) 경우에만 덮어써 진행 중인 투표를 잃지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceGameTally {
+
+    private static final String TALLY_KEY_PREFIX = "balance_game:tally:";
+    private static final String VOTES_KEY_PREFIX = "balance_game:votes:";
+    private static final String SEQ_KEY = "balance_game:vote_seq"; // 전체 투표 순서 (만료 없음, DB 저장 순서 비교용)
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String VERSION_FIELD = "_v";
+    private static final String UNKNOWN_PREVIOUS = "?"; // 이전 선택을 DB 에서 확인하지 않은 상태
+    private static final Duration TTL = Duration.ofDays(3); // 오늘 게임 + 최근 목록 조회분
+
+    // 반환: {"0"} 미적재, {"2"} 이전 선택 확인 필요, {"1", A, B, seq} 반영 완료
+    private static final RedisScript<List> VOTE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 0 then return {'0'} end
+            local prev = redis.call('HGET', KEYS[2], ARGV[1])
+            if not prev then
+              if ARGV[3] == '?' then return {'2'} end
+              prev = ARGV[3]
+            end
+            if prev ~= ARGV[2] then
+              redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+              if prev ~= '' then redis.call('HINCRBY', KEYS[1], prev, -1) end
+              redis.call('HINCRBY', KEYS[1], '_v', 1)
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            local seq = redis.call('INCR', KEYS[3])
+            local counts = redis.call('HMGET', KEYS[1], 'OPTION_A', 'OPTION_B')
+            return {'1', counts[1] or '0', counts[2] or '0', tostring(seq)}
+            """, List.class);
+
+    // 아직 적재되지 않은 경우에만 DB 집계로 초기화, 반환: {A, B}
+    private static final RedisScript<List> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 0 then
+              redis.call('HSET', KEYS[1], 'OPTION_A', ARGV[1], 'OPTION_B', ARGV[2], '_loaded', '1', '_v', '0')
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            local counts = redis.call('HMGET', KEYS[1], 'OPTION_A', 'OPTION_B')
+            return {counts[1] or '0', counts[2] or '0'}
+            """, List.class);
+
+    // 버전이 예상 값과 같을 때만 DB 집계로 덮어씀, 반환: 1 덮어씀, 0 건너뜀
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], '_v') ~= ARGV[1] then return 0 end
+            redis.call('HSET', KEYS[1], 'OPTION_A', ARGV[2], 'OPTION_B', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BalanceGameRepository balanceGameRepository;
+    private final BalanceGameChoiceRepository balanceGameChoiceRepository;
+    private final BalanceGameChoiceWriter balanceGameChoiceWriter;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, String> lastSeenVersions = new ConcurrentHashMap<>(); // 게임 ID -> 직전 정합성 확인 시 버전
+
+    private Counter correctedCounter;
+
+    public record Tally(long optionACount, long optionBCount) {}
+
+    @PostConstruct
+    public void registerMetrics() {
+        correctedCounter = Counter.builder("balance_game.tally.corrected")
+                .description("DB 집계와 달라 보정한 밸런스게임 집계 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 투표 반영 후 최신 집계 반환
+     * - DB 저장은 비동기로 요청
+     * - Redis 장애 시 빈 값 반환 (호출 측에서 DB 로 직접 처리)
+     */
+    public Optional<Tally> vote(Long gameId, Long userId, EChoice choice) {
+        List<String> keys = List.of(TALLY_KEY_PREFIX + gameId, VOTES_KEY_PREFIX + gameId, SEQ_KEY);
+        try {
+            String previous = UNKNOWN_PREVIOUS;
+            for (int attempt = 0; attempt < 3; attempt++) {
+                List<?> result = redisTemplate.execute(VOTE_SCRIPT, keys,
+                        userId.toString(), choice.name(), previous, String.valueOf(TTL.toSeconds()));
+
+                switch (String.valueOf(result.get(0))) {
+                    case "0" -> seed(List.of(gameId)); // 미적재 -> DB 집계 적재 후 재시도
+                    case "2" -> previous = balanceGameChoiceRepository.findChoiceByGameIdAndUserId(gameId, userId)
+                            .map(Enum::name).orElse("");
+                    default -> {
+                        balanceGameChoiceWriter.submit(gameId, userId, choice, toLong(result.get(3)));
+                        return Optional.of(new Tally(toLong(result.get(1)), toLong(result.get(2))));
+                    }
+                }
+            }
+            log.warn("Balance game tally was not loaded after retries. gameId={}", gameId);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, fallback to DB: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 여러 게임의 집계를 한 번의 파이프라인으로 조회
+     * - 적재되지 않은 게임은 DB 집계 한 번으로 적재
+     * - Redis 장애 시 DB 집계 반환
+     */
+    public Map<Long, Tally> getTallies(List<Long> gameIds) {
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long gameId : gameIds) {
+                        operations.opsForHash().multiGet(TALLY_KEY_PREFIX + gameId,
+                                List.of(EChoice.OPTION_A.name(), EChoice.OPTION_B.name(), LOADED_FIELD));
+                    }
+                    return null;
+                }
+            });
+
+            Map<Long, Tally> tallies = new HashMap<>();
+            List<Long> missingGameIds = new ArrayList<>();
+            for (int idx = 0; idx < gameIds.size(); idx++) {
+                List<?> values = (List<?>) results.get(idx);
+                if (values.get(2) == null) {
+                    missingGameIds.add(gameIds.get(idx));
+                    continue;
+                }
+                tallies.put(gameIds.get(idx), new Tally(toLong(values.get(0)), toLong(values.get(1))));
+            }
+
+            if (!missingGameIds.isEmpty()) tallies.putAll(seed(missingGameIds));
+            return tallies;
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, fallback to DB: {}", e.getMessage());
+            return loadFromDb(gameIds);
+        }
+    }
+
+    /**
+     * 요청 사용자의 최근 선택 (DB 비동기 저장 전 선택 포함)
+     * - Redis 에 기록이 없는 게임은 포함하지 않음 (호출 측에서 DB 값 사용)
+     */
+    public Map<Long, EChoice> getRecentChoices(List<Long> gameIds, Long userId) {
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long gameId : gameIds) {
+                        operations.opsForHash().get(VOTES_KEY_PREFIX + gameId, userId.toString());
+                    }
+                    return null;
+                }
+            });
+
+            Map<Long, EChoice> choices = new HashMap<>();
+            for (int idx = 0; idx < gameIds.size(); idx++) {
+                Object choice = results.get(idx);
+                if (choice != null) choices.put(gameIds.get(idx), EChoice.valueOf(choice.toString()));
+            }
+            return choices;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read recent balance game choices. userId={}, error={}", userId, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 오늘 게임의 Redis 집계를 DB 집계와 맞춤
+     * - 직전 확인 이후 버전이 바뀌지 않은(한 주기 동안 투표가 없어 비동기 저장이 끝난) 경우에만 덮어씀
+     * - 어느 노드든 저장 큐에 대기/재시도 중인 투표가 있으면 DB 집계가 작으므로 건너뜀
+     */
+    public void reconcile() {
+        if (!balanceGameChoiceWriter.isIdleEverywhere()) return;
+
+        Optional<BalanceGame> todayGame = balanceGameRepository.findByGameDate(LocalDate.now());
+        if (todayGame.isEmpty()) return;
+
+        Long gameId = todayGame.get().getId();
+        String key = TALLY_KEY_PREFIX + gameId;
+        try {
+            String version = (String) redisTemplate.opsForHash().get(key, VERSION_FIELD);
+            if (version == null) return; // 미적재 -> 다음 조회 시 DB 에서 적재
+
+            String lastSeenVersion = lastSeenVersions.put(gameId, version);
+            if (!version.equals(lastSeenVersion)) return; // 투표 진행 중 -> 다음 주기에 다시 확인
+
+            Tally dbTally = loadFromDb(List.of(gameId)).get(gameId);
+            List<Object> current = redisTemplate.opsForHash().multiGet(key, List.of(EChoice.OPTION_A.name(), EChoice.OPTION_B.name()));
+            if (dbTally.optionACount() == toLong(current.get(0)) && dbTally.optionBCount() == toLong(current.get(1))) return;
+
+            Long applied = redisTemplate.execute(RECONCILE_SCRIPT, List.of(key), version,
+                    String.valueOf(dbTally.optionACount()), String.valueOf(dbTally.optionBCount()));
+            if (applied != null && applied == 1L) {
+                correctedCounter.increment();
+                log.info("Balance game tally corrected. gameId={}, redis={}, db={}", gameId, current, dbTally);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to reconcile balance game tally. gameId={}, error={}", gameId, e.getMessage());
+        } finally {
+            lastSeenVersions.keySet().removeIf(id -> !id.equals(gameId)); // 지난 게임 정리
+        }
+    }
+
+    private Map<Long, Tally> seed(List<Long> gameIds) {
+        Map<Long, Tally> dbTallies = loadFromDb(gameIds);
+        Map<Long, Tally> tallies = new HashMap<>();
+        for (Long gameId : gameIds) {
+            Tally dbTally = dbTallies.get(gameId);
+            List<?> counts = redisTemplate.execute(SEED_SCRIPT, List.of(TALLY_KEY_PREFIX + gameId),
+                    String.valueOf(dbTally.optionACount()), String.valueOf(dbTally.optionBCount()),
+                    String.valueOf(TTL.toSeconds()));
+            tallies.put(gameId, new Tally(toLong(counts.get(0)), toLong(counts.get(1))));
+        }
+        return tallies;
+    }
+
+    private Map<Long, Tally> loadFromDb(List<Long> gameIds) {
+        Map<Long, Map<EChoice, Long>> countsByGame = new HashMap<>();
+        for (Object[] row : balanceGameChoiceRepository.getChoiceCountsByGameIdsRaw(gameIds)) {
+            countsByGame.computeIfAbsent((Long) row[0], id -> new EnumMap<>(EChoice.class)).put((EChoice) row[1], (Long) row[2]);
+        }
+
+        Map<Long, Tally> tallies = new HashMap<>();
+        for (Long gameId : gameIds) {
+            Map<EChoice, Long> counts = countsByGame.getOrDefault(gameId, Map.of());
+            tallies.put(gameId, new Tally(counts.getOrDefault(EChoice.OPTION_A, 0L), counts.getOrDefault(EChoice.OPTION_B, 0L)));
+        }
+        return tallies;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.domain.BlobDeletion;
+import com.example.withpeace.repository.BlobDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GCS blob 삭제 예약
+ * - 호출한 트랜잭션 안에서 blob_deletions 행만 기록 (요청 경로에서는 GCS 를 호출하지 않음)
+ * - 트랜잭션이 롤백되면 예약도 함께 취소되어 행이 남아 있는 이미지는 삭제되지 않음
+ * - 게시글 이미지 이름을 다시 참조하는 트랜잭션은 cancel 로 대기 중인 예약을 취소 (워커가 처리 중이면 끝날 때까지 대기)
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobDeletionOutbox {
+
+    private static final Pattern POST_IMAGE_BLOB_PATTERN = Pattern.compile("^postImage/(\\d+)/");
+
+    private final BlobDeletionRepository blobDeletionRepository;
+
+    public void enqueue(Collection<String> blobNames) {
+        if (blobNames.isEmpty()) return;
+        blobDeletionRepository.saveAll(blobNames.stream().distinct()
+                .map(blobName -> new BlobDeletion(blobName, postIdOf(blobName)))
+                .toList());
+    }
+
+    // 게시글 이미지 삭제 예약 취소 (이미지 행을 추가하는 트랜잭션 안에서 호출)
+    public void cancel(Long postId, Collection<String> blobNames) {
+        if (blobNames.isEmpty()) return;
+        blobDeletionRepository.deleteByPostIdAndBlobNameIn(postId, blobNames);
+    }
+
+    // 게시글 이미지 blob(postImage/{postId}/...) 의 게시글 ID, 아니면 null
+    public static Long postIdOf(String blobName) {
+        Matcher matcher = POST_IMAGE_BLOB_PATTERN.matcher(blobName);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
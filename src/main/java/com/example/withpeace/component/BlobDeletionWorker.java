@@ -0,0 +1,220 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.domain.BlobDeletion;
+import com.example.withpeace.repository.BlobDeletionRepository;
+import com.example.withpeace.repository.ImageRepository;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * blob_deletions 대기열 처리
+ * - 주기적으로 삭제 시점이 된 행을 batch-size 만큼 읽어 storage.delete(List<BlobId>) 한 번으로 삭제
+ * - 게시글 이미지 이름은 내용 해시 기반이라 삭제 예약 후 같은 파일이 다시 등록될 수 있으므로, images 가 참조 중인 이름은 삭제하지 않고 완료 처리
+ * - 배치마다 행을 FOR UPDATE 로 잠근 트랜잭션 안에서 참조 확인 -> GCS 삭제 -> 행 정리를 수행
+ *   같은 이름을 다시 등록하는 트랜잭션은 BlobDeletionOutbox.cancel 에서 이 트랜잭션이 끝날 때까지 대기한 뒤 blob 존재를 확인하므로,
+ *   참조 확인과 삭제 사이에 새 이미지 행이 커밋되어 사용 중인 파일을 지우는 경우가 없음
+ * - 배치 결과가 false 인 항목은 storage.get 으로 다시 확인하여 실제로 없는 경우만 완료, 남아 있으면(403/429/5xx 등) 재시도
+ * - 예외 시 배치 전체를 지수 백오프로 재시도
+ * - max-attempts 를 넘으면 포기하고 행 삭제 (버킷에 고아 파일로 남으며 로그/메트릭으로 확인)
+ * - 여러 인스턴스가 같은 행을 처리하더라도 GCS 삭제는 멱등이므로 결과에 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlobDeletionWorker {
+
+    private final BlobDeletionRepository blobDeletionRepository;
+    private final ImageRepository imageRepository;
+    private final ImageUploader imageUploader;
+    private final Storage storage;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.cloud.gcp.storage.bucket}")
+    private String bucketName;
+
+    @Value("${blob-deletion.batch-size:100}")
+    private int batchSize; // GCS 배치 요청 최대 100건
+
+    @Value("${blob-deletion.max-batches:10}")
+    private int maxBatches; // 한 번 실행에서 처리할 최대 배치 수
+
+    @Value("${blob-deletion.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${blob-deletion.backoff:PT1M}")
+    private Duration backoff;
+
+    @Value("${blob-deletion.max-backoff:PT6H}")
+    private Duration maxBackoff;
+
+    private final AtomicLong pending = new AtomicLong();
+    private Counter deletedCounter;
+    private Counter failedCounter;
+    private Counter abandonedCounter;
+    private Counter skippedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    public void init() {
+        deletedCounter = Counter.builder("blob.deletion.deleted")
+                .description("삭제 완료된 blob 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("blob.deletion.failed")
+                .description("삭제 실패로 재시도 예약된 blob 수")
+                .register(meterRegistry);
+        abandonedCounter = Counter.builder("blob.deletion.abandoned")
+                .description("최대 재시도 횟수를 넘어 포기한 blob 수")
+                .register(meterRegistry);
+        skippedCounter = Counter.builder("blob.deletion.skipped")
+                .description("다시 참조되어 삭제하지 않은 blob 수")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("blob.deletion.batch.duration")
+                .description("blob 삭제 배치 1회 GCS 호출 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("blob.deletion.pending", pending, AtomicLong::get)
+                .description("blob_deletions 대기 행 수")
+                .register(meterRegistry);
+    }
+
+    public void drain(BooleanSupplier leaseHeld) {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                if (!leaseHeld.getAsBoolean()) {
+                    log.warn("Scheduler lock lost, stop draining blob deletions. batch={}", batch);
+                    break;
+                }
+                List<BlobDeletion> due = blobDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+                if (due.isEmpty()) break;
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<BlobDeletion> locked = blobDeletionRepository.findAllByIdForUpdate(
+                            due.stream().map(BlobDeletion::getId).toList());
+                    if (!locked.isEmpty()) deleteBatch(locked);
+                });
+                if (due.size() < batchSize) break;
+            }
+            pending.set(blobDeletionRepository.count());
+        } catch (Exception e) {
+            log.error("Failed to drain blob deletions. error={}", e.getMessage(), e);
+        }
+    }
+
+    // drain 의 행 잠금 트랜잭션 안에서 호출 (completeAndRetry/scheduleRetry 의 트랜잭션은 이 트랜잭션에 참여)
+    private void deleteBatch(List<BlobDeletion> due) {
+        // 1. 다시 참조 중인 이름은 삭제하지 않음
+        Set<String> referenced = findReferencedBlobNames(due);
+        List<BlobDeletion> skipped = due.stream().filter(deletion -> referenced.contains(deletion.getBlobName())).toList();
+        List<BlobDeletion> targets = due.stream().filter(deletion -> !referenced.contains(deletion.getBlobName())).toList();
+        if (!skipped.isEmpty()) skippedCounter.increment(skipped.size());
+
+        // 2. 배치 삭제
+        List<BlobDeletion> done = new ArrayList<>(skipped);
+        List<BlobDeletion> retries = new ArrayList<>();
+        if (!targets.isEmpty()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<Boolean> results;
+            try {
+                results = storage.delete(targets.stream().map(deletion -> toBlobId(deletion.getBlobName())).toList());
+            } catch (Exception e) {
+                sample.stop(batchTimer);
+                log.warn("Failed to delete blobs. size={}, error={}", targets.size(), e.getMessage());
+                completeAndRetry(done, targets, e.getMessage());
+                return;
+            }
+            sample.stop(batchTimer);
+
+            // 3. false(없음 또는 항목별 실패) 항목은 실제로 없는지 확인
+            List<BlobDeletion> unconfirmed = new ArrayList<>();
+            for (int idx = 0; idx < targets.size(); idx++) {
+                (Boolean.TRUE.equals(results.get(idx)) ? done : unconfirmed).add(targets.get(idx));
+            }
+            if (!unconfirmed.isEmpty()) {
+                try {
+                    List<Blob> blobs = storage.get(unconfirmed.stream().map(deletion -> toBlobId(deletion.getBlobName())).toList());
+                    for (int idx = 0; idx < unconfirmed.size(); idx++) {
+                        (blobs.get(idx) == null ? done : retries).add(unconfirmed.get(idx));
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to check undeleted blobs. size={}, error={}", unconfirmed.size(), e.getMessage());
+                    retries.addAll(unconfirmed);
+                }
+            }
+        }
+
+        completeAndRetry(done, retries, "delete returned false and blob still exists");
+        deletedCounter.increment(done.size() - skipped.size());
+    }
+
+    private void completeAndRetry(List<BlobDeletion> done, List<BlobDeletion> retries, String error) {
+        if (!done.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    blobDeletionRepository.deleteAllByIdInBatch(done.stream().map(BlobDeletion::getId).toList()));
+        }
+        if (!retries.isEmpty()) scheduleRetry(retries, error);
+    }
+
+    // 삭제 대상 중 images 가 참조하는 blob 이름 (게시글 이미지 디렉터리별로 조회)
+    private Set<String> findReferencedBlobNames(List<BlobDeletion> due) {
+        Set<Long> postIds = new HashSet<>();
+        for (BlobDeletion deletion : due) {
+            Long postId = BlobDeletionOutbox.postIdOf(deletion.getBlobName());
+            if (postId != null) postIds.add(postId);
+        }
+        if (postIds.isEmpty()) return Set.of();
+
+        Set<String> referenced = new HashSet<>();
+        for (Object[] row : imageRepository.findUrlsByPostIdsRaw(postIds)) {
+            for (Object url : row) {
+                if (url != null) referenced.add(imageUploader.toBlobName((String) url));
+            }
+        }
+        return referenced;
+    }
+
+    private BlobId toBlobId(String blobName) {
+        return BlobId.of(bucketName, blobName);
+    }
+
+    private void scheduleRetry(List<BlobDeletion> due, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BlobDeletion> abandoned = due.stream().filter(deletion -> deletion.getAttempts() + 1 >= maxAttempts).toList();
+        List<BlobDeletion> retries = due.stream().filter(deletion -> deletion.getAttempts() + 1 < maxAttempts).toList();
+        retries.forEach(deletion -> deletion.retryAt(now.plus(backoffOf(deletion.getAttempts())), error));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            blobDeletionRepository.saveAll(retries);
+            blobDeletionRepository.deleteAllByIdInBatch(abandoned.stream().map(BlobDeletion::getId).toList());
+        });
+
+        failedCounter.increment(retries.size());
+        if (!abandoned.isEmpty()) {
+            abandonedCounter.increment(abandoned.size());
+            log.error("Gave up deleting blobs. blobNames={}", abandoned.stream().map(BlobDeletion::getBlobName).toList());
+        }
+    }
+
+    // backoff * 2^attempts (최대 maxBackoff)
+    private Duration backoffOf(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -21,6 +21,11 @@ public class EntityFinder {
         return userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
     }
 
+    // 외래 키로만 사용하는 경우 조회 없이 참조 프록시 반환 (사용자 존재 여부는 인증 단계에서 확인됨)
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     public Policy getPolicyById(String policyId) {
         return policyRepository.findById(policyId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_YOUTH_POLICY));
     }
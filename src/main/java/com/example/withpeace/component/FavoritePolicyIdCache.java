@@ -0,0 +1,170 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.repository.FavoritePolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 찜한 정책 ID 캐시 (Redis SET)
+ * - 목록/검색/핫/추천 응답의 isFavorite 표시를 DB 조회 없이 메모리 포함 여부 확인으로 처리
+ * - 찜 등록/해제 시 write-through 로 SET 을 갱신
+ * - SET 에 LOADED_MARKER 가 없으면 DB 스냅샷이 적재되지 않은 상태로 보고 DB 에서 다시 적재
+ * - 적재 중 찜 변경이 발생하면 버전 값이 달라지므로 적재 결과를 버리고 다음 조회 시 다시 적재
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 반영하고, 완료(커밋/롤백) 후 버전을 한 번 더 올려 그 사이 적재된 스냅샷을 버림
+ * - 찜 DB 쓰기는 FavoritePolicyWriter 가 비동기로 처리하므로, 쓰기 완료 후 같은 변경을 다시 반영하여 그 사이 적재된 값을 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoritePolicyIdCache {
+
+    private static final String KEY_PREFIX = "favorite_policies:";
+    private static final String VERSION_KEY_PREFIX = "favorite_policies:version:";
+    private static final String LOADED_MARKER = "-"; // DB 스냅샷 적재 완료 표시 (빈 SET 도 저장 가능하도록)
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FavoritePolicyRepository favoritePolicyRepository;
+
+    /**
+     * 사용자가 찜한 전체 정책 ID 조회
+     * - Redis 장애 시 DB 조회로 대체
+     */
+    public Set<String> getFavoritePolicyIds(Long userId) {
+        String key = KEY_PREFIX + userId;
+
+        Set<String> cached;
+        try {
+            cached = redisTemplate.opsForSet().members(key);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, fallback to DB: {}", e.getMessage());
+            return loadFromDb(userId);
+        }
+
+        if (cached != null && cached.contains(LOADED_MARKER)) {
+            Set<String> favoritePolicyIds = new HashSet<>(cached);
+            favoritePolicyIds.remove(LOADED_MARKER);
+            return favoritePolicyIds;
+        }
+
+        // 캐시 미스 (또는 write-through 로만 채워진 부분 SET) -> DB 스냅샷 적재
+        return load(userId, key, cached);
+    }
+
+    // 찜 등록 write-through
+    public void add(Long userId, String policyId) {
+        afterCommit(userId, () -> addNow(userId, policyId));
+    }
+
+    // 찜 해제 write-through
+    public void remove(Long userId, String policyId) {
+        afterCommit(userId, () -> removeNow(userId, policyId));
+    }
+
+    private void addNow(Long userId, String policyId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            redisTemplate.opsForSet().add(key, policyId);
+            redisTemplate.expire(key, TTL);
+            increaseVersion(userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to add favorite policy to cache. userId={}, policyId={}, error={}", userId, policyId, e.getMessage());
+            evictQuietly(key);
+        }
+    }
+
+    private void removeNow(Long userId, String policyId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            redisTemplate.opsForSet().remove(key, policyId);
+            increaseVersion(userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove favorite policy from cache. userId={}, policyId={}, error={}", userId, policyId, e.getMessage());
+            evictQuietly(key);
+        }
+    }
+
+    // 트랜잭션 진행 중이면 커밋 이후 반영하고 완료 후 버전 증가, 아니면 바로 반영
+    private void afterCommit(Long userId, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    increaseVersion(userId);
+                } catch (DataAccessException e) {
+                    log.warn("Failed to increase favorite policy cache version. userId={}, error={}", userId, e.getMessage());
+                    evictQuietly(KEY_PREFIX + userId);
+                }
+            }
+        });
+    }
+
+    // 사용자 캐시 전체 삭제 (회원 삭제 등)
+    public void evict(Long userId) {
+        evictQuietly(KEY_PREFIX + userId);
+    }
+
+    private Set<String> load(Long userId, String key, Set<String> partial) {
+        Set<String> favoritePolicyIds = new HashSet<>();
+        if (partial != null) favoritePolicyIds.addAll(partial); // 적재 전 write-through 로 추가된 ID 유지
+
+        try {
+            String versionBefore = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+            favoritePolicyIds.addAll(favoritePolicyRepository.findPolicyIdsByUserId(userId));
+
+            String[] members = new String[favoritePolicyIds.size() + 1];
+            favoritePolicyIds.toArray(members);
+            members[members.length - 1] = LOADED_MARKER;
+            redisTemplate.opsForSet().add(key, members);
+            redisTemplate.expire(key, TTL);
+
+            // 적재 도중 찜 변경이 있었다면 스냅샷이 오래되었을 수 있으므로 캐시를 비움
+            String versionAfter = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+            if (!Objects.equals(versionBefore, versionAfter)) {
+                redisTemplate.delete(key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to load favorite policies into cache. userId={}, error={}", userId, e.getMessage());
+        }
+
+        favoritePolicyIds.remove(LOADED_MARKER);
+        return favoritePolicyIds;
+    }
+
+    private Set<String> loadFromDb(Long userId) {
+        return new HashSet<>(favoritePolicyRepository.findPolicyIdsByUserId(userId));
+    }
+
+    private void increaseVersion(Long userId) {
+        String versionKey = VERSION_KEY_PREFIX + userId;
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, TTL);
+    }
+
+    private void evictQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict favorite policy cache. key={}, error={}", key, e.getMessage());
+        }
+    }
+}
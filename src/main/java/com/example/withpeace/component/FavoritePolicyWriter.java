@@ -0,0 +1,270 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 정책 찜하기/찜 해제 전용 쓰기 파이프라인
+ * - 사용자 ID 기준으로 스트라이프(단일 스레드 + 제한된 큐)를 나누어 같은 사용자의 요청 순서 보장
+ * - 큐에 쌓인 요청을 모아 (user, policy) 별 마지막 요청만 남긴 뒤 INSERT IGNORE / DELETE 배치로 처리
+ * - 큐가 가득 찬 경우 요청을 거절하고 메트릭으로 기록
+ * - 트랜잭션 안에서 접수하면 큐 여유만 먼저 확인하고 커밋 이후에 큐에 넣음 (롤백된 요청은 쓰지 않음)
+ * - 쓰기 완료 후 찜 ID 캐시에 같은 변경을 다시 반영 (DB 반영 전에 적재된 캐시 보정)
+ * - 배치 실패 시 max-attempts 까지 지수 백오프로 재시도, 그래도 실패하면 스트라이프의 다음 배치 앞에 다시 포함 (접수 순서가 늦은 요청이 우선)
+ *   종료 중이라 더 이상 재시도할 수 없는 요청만 실패로 기록하고 해당 사용자의 찜 ID 캐시 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoritePolicyWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO favorite_policies (user_id, policy_id, title, create_date) " +
+            "SELECT ?, p.id, p.title, ? FROM policies p WHERE p.id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM favorite_policies WHERE user_id = ? AND policy_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FavoritePolicyIdCache favoritePolicyIdCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${favorite-policy.writer.stripes:2}")
+    private int stripeCount;
+
+    @Value("${favorite-policy.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${favorite-policy.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${favorite-policy.writer.max-attempts:5}")
+    private int maxAttempts; // 한 번에 연속 재시도할 횟수 (넘으면 다음 배치와 함께 재시도)
+
+    @Value("${favorite-policy.writer.backoff:PT0.2S}")
+    private Duration backoff;
+
+    private final List<Stripe> stripes = new ArrayList<>();
+    private volatile boolean running;
+
+    private Timer lagTimer;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+
+    @PostConstruct
+    public void start() {
+        lagTimer = Timer.builder("favorite_policy.writer.lag")
+                .description("찜 요청 접수부터 DB 반영까지 걸린 시간")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("favorite_policy.writer.rejected")
+                .description("큐가 가득 차 거절된 찜 요청 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("favorite_policy.writer.failed")
+                .description("재시도 후에도 DB 반영에 실패하여 버린 찜 요청 수")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder("favorite_policy.writer.retried")
+                .description("DB 반영 실패로 다시 시도한 찜 요청 수")
+                .register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < stripeCount; i++) {
+            Stripe stripe = new Stripe(i, new ArrayBlockingQueue<>(queueCapacity));
+            Gauge.builder("favorite_policy.writer.queue.size", stripe.queue, Queue::size)
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+            stripe.start();
+            stripes.add(stripe);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false; // 남은 요청은 모두 처리한 뒤 종료
+        for (Stripe stripe : stripes) {
+            stripe.executor.shutdown();
+        }
+        for (Stripe stripe : stripes) {
+            if (!stripe.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Favorite policy writer stripe {} did not finish. remaining={}", stripe.index, stripe.queue.size());
+            }
+        }
+    }
+
+    // 찜하기 요청 접수
+    public void submitFavorite(Long userId, String policyId) {
+        submit(new Command(userId, policyId, true, System.nanoTime(), LocalDateTime.now()));
+    }
+
+    // 찜 해제 요청 접수
+    public void submitUnfavorite(Long userId, String policyId) {
+        submit(new Command(userId, policyId, false, System.nanoTime(), LocalDateTime.now()));
+    }
+
+    private void submit(Command command) {
+        Stripe stripe = stripeOf(command.userId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(stripe, command);
+            return;
+        }
+
+        // 거절 응답은 커밋 전에만 가능하므로 여유를 먼저 확인
+        if (stripe.queue.remainingCapacity() == 0) reject(command);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    offer(stripe, command);
+                } catch (CommonException e) {
+                    favoritePolicyIdCache.evict(command.userId()); // 커밋 후 거절 -> 캐시가 DB 와 어긋나지 않도록 삭제
+                }
+            }
+        });
+    }
+
+    private void offer(Stripe stripe, Command command) {
+        if (!stripe.queue.offer(command)) reject(command);
+    }
+
+    private void reject(Command command) {
+        rejectedCounter.increment();
+        log.warn("Favorite policy writer queue is full. userId={}, policyId={}", command.userId(), command.policyId());
+        throw new CommonException(ErrorCode.FAVORITE_YOUTH_POLICY_ERROR);
+    }
+
+    private Stripe stripeOf(Long userId) {
+        return stripes.get((int) Math.floorMod(userId, (long) stripes.size()));
+    }
+
+    /**
+     * 배치 반영
+     * @return 연속 재시도 후에도 반영하지 못한 요청 (성공 시 빈 목록)
+     */
+    private List<Command> flush(List<Command> batch) throws InterruptedException {
+        // 같은 (user, policy) 에 대한 요청은 가장 늦게 접수된 요청만 반영 (다시 포함된 이전 요청보다 새 요청 우선)
+        Map<String, Command> latest = new LinkedHashMap<>();
+        for (Command command : batch) {
+            latest.merge(command.key(), command, (current, next) -> next.enqueuedAt() > current.enqueuedAt() ? next : current);
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (Command command : latest.values()) {
+            if (command.favorite()) {
+                inserts.add(new Object[]{command.userId(), Timestamp.valueOf(command.requestedAt()), command.policyId()});
+            } else {
+                deletes.add(new Object[]{command.userId(), command.policyId()});
+            }
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                    if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+                });
+                break;
+            } catch (Exception e) {
+                log.warn("Failed to write favorite policies. size={}, attempt={}, error={}", latest.size(), attempt, e.getMessage());
+                if (attempt >= maxAttempts) return List.copyOf(latest.values());
+                retriedCounter.increment(latest.size());
+                Thread.sleep(backoff.toMillis() << Math.min(attempt - 1, 10));
+            }
+        }
+
+        // DB 반영 전에 적재된 찜 ID 캐시 보정
+        for (Command command : latest.values()) {
+            if (command.favorite()) favoritePolicyIdCache.add(command.userId(), command.policyId());
+            else favoritePolicyIdCache.remove(command.userId(), command.policyId());
+        }
+
+        long now = System.nanoTime();
+        for (Command command : batch) {
+            lagTimer.record(Duration.ofNanos(now - command.enqueuedAt()));
+        }
+        return List.of();
+    }
+
+    // 더 이상 재시도할 수 없는 요청 (DB 와 어긋났을 수 있는 사용자의 찜 ID 캐시 삭제)
+    private void drop(List<Command> commands) {
+        failedCounter.increment(commands.size());
+        log.error("Dropped favorite policy writes after retries. size={}", commands.size());
+        commands.stream().map(Command::userId).distinct().forEach(favoritePolicyIdCache::evict);
+    }
+
+    private record Command(Long userId, String policyId, boolean favorite, long enqueuedAt, LocalDateTime requestedAt) {
+        String key() {
+            return userId + ":" + policyId;
+        }
+    }
+
+    private class Stripe {
+        private final int index;
+        private final BlockingQueue<Command> queue;
+        private final ExecutorService executor;
+        private final List<Command> carried = new ArrayList<>(); // 반영하지 못해 다음 배치에 다시 포함할 요청 (스트라이프 스레드 전용)
+
+        Stripe(int index, BlockingQueue<Command> queue) {
+            this.index = index;
+            this.queue = queue;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "favorite-policy-writer-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        void start() {
+            executor.execute(this::run);
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty() || !carried.isEmpty()) {
+                try {
+                    // 다시 포함할 요청이 앞에 오도록 먼저 담음
+                    batch.addAll(carried);
+                    carried.clear();
+                    if (batch.isEmpty()) {
+                        Command first = queue.poll(200, TimeUnit.MILLISECONDS);
+                        if (first == null) continue;
+                        batch.add(first);
+                    }
+                    queue.drainTo(batch, Math.max(0, batchSize - batch.size()));
+
+                    List<Command> unwritten = flush(batch);
+                    if (unwritten.isEmpty()) continue;
+                    if (running) carried.addAll(unwritten);
+                    else drop(unwritten); // 종료 중에는 더 기다리지 않음
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("Unexpected error in favorite policy writer stripe {}: {}", index, e.getMessage(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
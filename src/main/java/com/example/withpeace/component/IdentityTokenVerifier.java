@@ -0,0 +1,138 @@
+package com.example.withpeace.component;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import com.example.withpeace.security.info.VerifiedIdentity;
+import com.example.withpeace.type.EProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인(Google, Apple) ID 토큰 검증
+ * - 토큰은 한 번만 디코딩하여 서명/발급자/만료/대상 검증 후 sub, email 반환
+ * - 대상(aud)은 항상 검증, 제공자별 audiences 설정이 비어 있으면 기동 실패 (다른 앱에 발급된 토큰 재사용 방지)
+ * - 제공자별 공개 키는 JwksKeyCache 에 보관, 전용 스케줄러로 주기 갱신 (로그인 시 네트워크 요청 없음)
+ */
+@Slf4j
+@Component
+public class IdentityTokenVerifier {
+
+    private static final long LEEWAY_SECONDS = 60;
+
+    @Value("${oauth.identity.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}")
+    private String googleJwksUri;
+
+    @Value("${oauth.identity.google.issuers:https://accounts.google.com,accounts.google.com}")
+    private String[] googleIssuers;
+
+    @Value("${oauth.identity.google.audiences}")
+    private String[] googleAudiences;
+
+    @Value("${oauth.identity.apple.jwks-uri:https://appleid.apple.com/auth/keys}")
+    private String appleJwksUri;
+
+    @Value("${oauth.identity.apple.issuers:https://appleid.apple.com}")
+    private String[] appleIssuers;
+
+    @Value("${oauth.identity.apple.audiences}")
+    private String[] appleAudiences;
+
+    @Value("${oauth.identity.jwks-refresh-interval:PT1H}")
+    private Duration refreshInterval;
+
+    @Value("${oauth.identity.jwks-min-refresh-interval:PT30S}")
+    private Duration minRefreshInterval;
+
+    private JwksKeyCache googleKeys;
+    private JwksKeyCache appleKeys;
+    private ScheduledExecutorService refreshExecutor;
+
+    @PostConstruct
+    public void init() throws MalformedURLException {
+        googleAudiences = requireAudiences("google", googleAudiences);
+        appleAudiences = requireAudiences("apple", appleAudiences);
+
+        googleKeys = new JwksKeyCache("google", new URL(googleJwksUri), minRefreshInterval);
+        appleKeys = new JwksKeyCache("apple", new URL(appleJwksUri), minRefreshInterval);
+
+        // 애플리케이션 스케줄러와 분리된 전용 스레드에서 즉시 1회 + 주기적으로 키 갱신
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            googleKeys.refresh();
+            appleKeys.refresh();
+        }, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static String[] requireAudiences(String provider, String[] audiences) {
+        String[] filtered = Arrays.stream(audiences).map(String::trim).filter(audience -> !audience.isEmpty())
+                .toArray(String[]::new);
+        if (filtered.length == 0) {
+            throw new IllegalStateException("oauth.identity." + provider + ".audiences must not be empty");
+        }
+        return filtered;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public VerifiedIdentity verify(final String idToken, final EProvider provider) throws CommonException {
+        return switch (provider) {
+            case GOOGLE -> verify(idToken, googleKeys, googleIssuers, googleAudiences);
+            case APPLE -> verify(idToken, appleKeys, appleIssuers, appleAudiences);
+            default -> throw new CommonException(ErrorCode.INVALID_PROVIDER);
+        };
+    }
+
+    private VerifiedIdentity verify(String idToken, JwksKeyCache keyCache, String[] issuers, String[] audiences) {
+        final DecodedJWT decoded;
+        try {
+            decoded = JWT.decode(idToken);
+        } catch (JWTVerificationException e) {
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        RSAPublicKey publicKey = decoded.getKeyId() == null ? null : keyCache.getKey(decoded.getKeyId());
+        if (publicKey == null) {
+            log.warn("Unknown identity token key id: {}", decoded.getKeyId());
+            throw new CommonException(ErrorCode.AUTH_SERVER_USER_INFO_ERROR);
+        }
+
+        JWTVerifier verifier = JWT.require(Algorithm.RSA256(publicKey, null))
+                .withIssuer(issuers)
+                .withAnyOfAudience(audiences)
+                .acceptLeeway(LEEWAY_SECONDS)
+                .build();
+
+        try {
+            verifier.verify(decoded); // 이미 디코딩된 토큰으로 검증 (재파싱 없음)
+        } catch (JWTVerificationException e) {
+            log.warn("Invalid identity token: {}", e.getMessage());
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        return new VerifiedIdentity(decoded.getSubject(), decoded.getClaim("email").asString());
+    }
+}
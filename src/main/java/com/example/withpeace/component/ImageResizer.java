@@ -0,0 +1,114 @@
+package com.example.withpeace.component;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 목록/상세 화면용 축소 이미지 생성 (javax.imageio)
+ * - 긴 변 기준으로 비율 유지 축소, 원본보다 큰 크기는 생성하지 않음
+ * - 투명도가 있으면 PNG, 없으면 JPEG(품질 0.85)로 인코딩
+ * - ImageIO 가 읽을 수 없는 형식(HEIC, WebP 등)은 빈 결과 반환 (원본 URL 사용)
+ * - 디코딩 전에 헤더의 가로/세로만 읽어 MAX_PIXELS 를 넘으면 거부 (작은 파일이 수 GB 로 풀리는 decompression bomb 방지)
+ */
+@Component
+public class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final long MAX_PIXELS = 40_000_000L; // 약 8000x5000, ARGB 디코딩 시 약 160MB
+
+    public record Variant(int size, String extension, String contentType, byte[] bytes) {}
+
+    public Map<Integer, Variant> resize(InputStream inputStream, int... sizes) throws IOException {
+        BufferedImage source = decode(inputStream);
+        Map<Integer, Variant> variants = new LinkedHashMap<>();
+        if (source == null) return variants; // 지원하지 않는 형식
+
+        boolean hasAlpha = source.getColorModel().hasAlpha();
+        int longSide = Math.max(source.getWidth(), source.getHeight());
+        for (int size : sizes) {
+            if (size >= longSide) continue; // 확대하지 않음
+
+            BufferedImage scaled = scale(source, size, hasAlpha);
+            variants.put(size, hasAlpha
+                    ? new Variant(size, "png", "image/png", encodePng(scaled))
+                    : new Variant(size, "jpg", "image/jpeg", encodeJpeg(scaled)));
+        }
+        return variants;
+    }
+
+    // 크기 확인 후 디코딩 (지원하지 않는 형식이면 null)
+    private BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("Image is too large to decode. pixels=" + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int size, boolean hasAlpha) {
+        double ratio = (double) size / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
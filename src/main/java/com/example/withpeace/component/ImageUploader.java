@@ -0,0 +1,390 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * GCS 이미지 업로드 파이프라인
+ * - 원본은 힙에 올리지 않고 WriteChannel 로 스트리밍 업로드 (청크 단위 전송)
+ * - blob 이름은 내용의 SHA-256 으로 정하여 같은 이미지는 다시 올리지 않음 (게시글 수정 시 변경분만 업로드)
+ * - 원본 업로드와 동시에 이미지 처리 전용 풀에서 축소본(256px 썸네일, 720px 중간 크기) 생성 후 원본 옆에 저장
+ * - 여러 파일은 제한된 전용 스레드 풀에서 병렬 처리, 호출 스레드는 전체 완료까지 대기
+ * - 하나라도 실패하면 이미 올라간 파일(축소본 포함)을 삭제(보상 처리)한 뒤 예외 발생
+ * - DB 트랜잭션 밖에서 호출하여 업로드 동안 커넥션을 점유하지 않도록 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageUploader {
+
+    private static final String GCS_URL_PREFIX = "https://storage.googleapis.com/";
+    public static final int THUMBNAIL_SIZE = 256;
+    public static final int MEDIUM_SIZE = 720;
+
+    private final Storage storage;
+    private final ImageResizer imageResizer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.cloud.gcp.storage.bucket}")
+    private String bucketName;
+
+    @Value("${image.upload.threads:4}")
+    private int threadCount;
+
+    @Value("${image.upload.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${image.upload.chunk-size:1048576}")
+    private int chunkSize; // 256KB 배수
+
+    @Value("${image.upload.timeout:PT60S}")
+    private Duration timeout;
+
+    @Value("${image.processing.threads:2}")
+    private int processingThreadCount; // 디코딩 시 원본 크기만큼 메모리를 사용하므로 작게 유지
+
+    @Value("${image.processing.timeout:PT20S}")
+    private Duration processingTimeout; // 넘으면 축소본 없이 원본만 사용
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor processingExecutor;
+    private Timer uploadTimer;
+    private Timer processingTimer;
+
+    /**
+     * 업로드 결과
+     * - 이미 저장된 내용이라 업로드하지 않은 경우 blob 이름은 모두 null
+     * - 축소본은 원본이 더 작거나 지원하지 않는 형식이면 null
+     * - reusedBlobNames: 같은 이름의 blob 이 이미 있어 이 요청이 만들지 않은 이름 (삭제 예약과 경합할 수 있어 반영 시 존재 확인 필요)
+     */
+    public record UploadedImage(String contentHash, String blobName, String thumbnailBlobName, String mediumBlobName,
+                                Set<String> reusedBlobNames) {
+
+        public UploadedImage(String contentHash, String blobName, String thumbnailBlobName, String mediumBlobName) {
+            this(contentHash, blobName, thumbnailBlobName, mediumBlobName, Set.of());
+        }
+
+        public static UploadedImage existing(String contentHash) {
+            return new UploadedImage(contentHash, null, null, null);
+        }
+
+        public boolean isUploaded() {
+            return blobName != null;
+        }
+
+        public List<String> blobNames() {
+            return Stream.of(blobName, thumbnailBlobName, mediumBlobName).filter(Objects::nonNull).toList();
+        }
+
+        // 이 요청이 생성한 blob (반영 실패 시 보상 삭제 대상)
+        public List<String> createdBlobNames() {
+            return blobNames().stream().filter(name -> !reusedBlobNames.contains(name)).toList();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = newExecutor("image-upload-", threadCount);
+        processingExecutor = newExecutor("image-processing-", processingThreadCount);
+
+        uploadTimer = Timer.builder("image.upload.duration")
+                .description("이미지 1개 GCS 업로드 소요 시간")
+                .register(meterRegistry);
+        processingTimer = Timer.builder("image.processing.duration")
+                .description("이미지 1개 축소본 생성 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.queue.size", executor.getQueue(), BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("image.processing.queue.size", processingExecutor.getQueue(), BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        processingExecutor.shutdown();
+        executor.shutdown();
+        if (!processingExecutor.awaitTermination(10, TimeUnit.SECONDS) || !executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Image uploader did not finish. remaining={}", executor.getQueue().size() + processingExecutor.getQueue().size());
+        }
+    }
+
+    public List<UploadedImage> upload(String directory, List<MultipartFile> files) {
+        return upload(directory, files, Set.of());
+    }
+
+    /**
+     * directory 하위에 파일과 축소본을 내용 주소(SHA-256) 이름으로 병렬 업로드하고 요청 순서대로 결과 반환
+     * - 원본: {directory}{sha256}.{확장자}, 축소본: {directory}{sha256}_{256|720}.{jpg|png}
+     * - existingHashes 에 있는 이미지(이미 저장된 같은 내용)와 요청 내 중복 이미지는 업로드하지 않음
+     */
+    public List<UploadedImage> upload(String directory, List<MultipartFile> files, Set<String> existingHashes) {
+        // 1. 내용 해시 계산 (파일을 스트림으로 읽어 계산, 병렬)
+        List<CompletableFuture<String>> hashTasks = new ArrayList<>(files.size());
+        try {
+            files.forEach(file -> hashTasks.add(CompletableFuture.supplyAsync(() -> sha256(file), executor)));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image upload queue is full. directory={}", directory);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+        List<String> hashes = awaitAll(directory, hashTasks, List.of(), new ConcurrentLinkedQueue<>());
+
+        // 2. 새 내용만 업로드 대상으로 선정 (같은 해시는 한 번만)
+        Map<String, MultipartFile> toUpload = new LinkedHashMap<>();
+        for (int idx = 0; idx < files.size(); idx++) {
+            if (!existingHashes.contains(hashes.get(idx))) toUpload.putIfAbsent(hashes.get(idx), files.get(idx));
+        }
+
+        // 3. 원본 스트리밍 업로드 + 축소본 생성/업로드
+        // - 내용 해시 이름은 다른 요청과 공유될 수 있으므로 없을 때만 생성하고, 이 요청이 만든 blob 만 보상 삭제 대상
+        Queue<String> uploadedBlobNames = new ConcurrentLinkedQueue<>(); // 보상 삭제 대상
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        List<CompletableFuture<UploadedImage>> results = new ArrayList<>(toUpload.size());
+        try {
+            toUpload.forEach((hash, file) -> {
+                String baseName = directory + hash;
+
+                CompletableFuture<String> original = CompletableFuture.supplyAsync(
+                        () -> stream(baseName + extensionOf(file), file, uploadedBlobNames), executor);
+                tasks.add(original);
+                CompletableFuture<Map<Integer, String>> variants = variantsOf(baseName, file, uploadedBlobNames, tasks);
+
+                results.add(original.thenCombine(variants, (blobName, variantBlobNames) -> {
+                    UploadedImage image = new UploadedImage(hash, blobName,
+                            variantBlobNames.get(THUMBNAIL_SIZE), variantBlobNames.get(MEDIUM_SIZE));
+                    Set<String> reused = image.blobNames().stream()
+                            .filter(name -> !uploadedBlobNames.contains(name))
+                            .collect(Collectors.toUnmodifiableSet());
+                    return new UploadedImage(hash, blobName, image.thumbnailBlobName(), image.mediumBlobName(), reused);
+                }));
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image upload queue is full. directory={}", directory);
+            compensate(tasks, uploadedBlobNames);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        Map<String, UploadedImage> uploaded = new HashMap<>();
+        awaitAll(directory, results, tasks, uploadedBlobNames).forEach(image -> uploaded.put(image.contentHash(), image));
+
+        // 4. 요청 순서대로 결과 구성 (업로드하지 않은 기존 이미지는 해시만 반환)
+        return hashes.stream()
+                .map(hash -> uploaded.getOrDefault(hash, UploadedImage.existing(hash)))
+                .toList();
+    }
+
+    // 업로드된 blob 삭제 (실패해도 예외를 던지지 않고 로그만 남김)
+    public void deleteQuietly(Collection<String> blobNames) {
+        if (blobNames.isEmpty()) return;
+        try {
+            List<BlobId> blobIds = blobNames.stream().map(blobName -> BlobId.of(bucketName, blobName)).toList();
+            storage.delete(blobIds);
+        } catch (Exception e) {
+            log.warn("Failed to delete blobs. blobNames={}, error={}", blobNames, e.getMessage());
+        }
+    }
+
+    // 존재하지 않는 blob 이름 (한 번의 배치 조회)
+    public List<String> findMissing(List<String> blobNames) {
+        if (blobNames.isEmpty()) return List.of();
+        List<Blob> blobs = storage.get(blobNames.stream().map(blobName -> BlobId.of(bucketName, blobName)).toList());
+        List<String> missing = new ArrayList<>();
+        for (int idx = 0; idx < blobNames.size(); idx++) {
+            if (blobs.get(idx) == null) missing.add(blobNames.get(idx));
+        }
+        return missing;
+    }
+
+    public String toUrl(String blobName) {
+        return blobName == null ? null : GCS_URL_PREFIX + bucketName + "/" + blobName;
+    }
+
+    public String toBlobName(String url) {
+        return url.substring(url.indexOf(bucketName) + bucketName.length() + 1);
+    }
+
+    private String stream(String blobName, MultipartFile file, Queue<String> uploadedBlobNames) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, blobName))
+                .setContentType(file.getContentType())
+                .build();
+
+        try (WriteChannel writer = storage.writer(blobInfo, Storage.BlobWriteOption.doesNotExist());
+             InputStream inputStream = file.getInputStream()) {
+            writer.setChunkSize(chunkSize);
+            inputStream.transferTo(Channels.newOutputStream(writer));
+        } catch (IOException | StorageException e) {
+            if (isAlreadyExists(e)) return blobName; // 다른 요청이 같은 내용을 먼저 저장함 (삭제 대상 아님)
+            throw new CompletionException(e);
+        } finally {
+            sample.stop(uploadTimer);
+        }
+        uploadedBlobNames.add(blobName);
+        return blobName;
+    }
+
+    // 작업 완료 대기 (실패/시간 초과 시 보상 삭제 후 예외)
+    private <T> List<T> awaitAll(String directory, List<CompletableFuture<T>> futures,
+                                 List<CompletableFuture<?>> tasks, Queue<String> uploadedBlobNames) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensate(tasks, uploadedBlobNames);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Failed to upload images. directory={}, error={}", directory, e.getMessage());
+            compensate(tasks, uploadedBlobNames);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String sha256(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // 원본 파일명의 확장자 (소문자, 없으면 빈 문자열)
+    private String extensionOf(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        if (filename == null || filename.lastIndexOf('.') < 0) return "";
+        String extension = filename.substring(filename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
+    }
+
+    /**
+     * 축소본 생성/업로드 (실패는 업로드 실패로 보지 않음, 목록/상세에서 원본 URL 사용)
+     * - 처리 풀 거절, 생성/업로드 예외, 처리 시간 초과 모두 빈 결과로 대체하여 원본 업로드 결과만 사용
+     * - 시간 초과 후에는 남은 축소본을 업로드하지 않고, 이미 만든 축소본은 작업이 끝날 때 삭제 (어디에도 참조되지 않음)
+     */
+    private CompletableFuture<Map<Integer, String>> variantsOf(String baseName, MultipartFile file,
+                                                               Queue<String> uploadedBlobNames, List<CompletableFuture<?>> tasks) {
+        AtomicBoolean abandoned = new AtomicBoolean(); // 처리 시간 초과로 결과를 버림
+        Queue<String> createdBlobNames = new ConcurrentLinkedQueue<>(); // 이 작업이 생성한 축소본
+        CompletableFuture<Map<Integer, String>> uploading;
+        try {
+            uploading = CompletableFuture
+                    .supplyAsync(() -> resize(file), processingExecutor)
+                    .thenApplyAsync(resized -> uploadVariants(baseName, resized, uploadedBlobNames, createdBlobNames, abandoned), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Image processing queue is full, skip variants. blobName={}", baseName);
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        tasks.add(uploading); // 보상 삭제 시 진행 중인 축소본 업로드까지 대기
+        uploading.whenComplete((result, error) -> {
+            if (abandoned.get()) deleteQuietly(List.copyOf(createdBlobNames)); // 시간 초과 후 끝난 업로드
+        });
+
+        return uploading.copy() // 시간 초과가 원래 작업(보상 삭제 대기 대상)을 완료시키지 않도록 복사본에 적용
+                .orTimeout(processingTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    if (e instanceof TimeoutException) {
+                        abandoned.set(true);
+                        if (uploading.isDone()) deleteQuietly(List.copyOf(createdBlobNames)); // 시간 초과와 동시에 끝난 경우
+                        log.warn("Image variants timed out, discard them. blobName={}", baseName);
+                    } else {
+                        log.warn("Failed to upload image variants. blobName={}, error={}", baseName, e.getMessage());
+                    }
+                    return Map.of();
+                });
+    }
+
+    private Map<Integer, ImageResizer.Variant> resize(MultipartFile file) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (InputStream inputStream = file.getInputStream()) {
+            return imageResizer.resize(inputStream, THUMBNAIL_SIZE, MEDIUM_SIZE);
+        } catch (Exception e) {
+            log.warn("Failed to create image variants. file={}, error={}", file.getOriginalFilename(), e.getMessage());
+            return Map.of();
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    // 축소본은 수십~수백 KB 이므로 한 번에 업로드
+    private Map<Integer, String> uploadVariants(String baseName, Map<Integer, ImageResizer.Variant> variants,
+                                                Queue<String> uploadedBlobNames, Queue<String> createdBlobNames,
+                                                AtomicBoolean abandoned) {
+        Map<Integer, String> blobNames = new HashMap<>();
+        for (ImageResizer.Variant variant : variants.values()) {
+            if (abandoned.get()) break; // 시간 초과 -> 결과를 쓰지 않으므로 남은 축소본 생략
+            String blobName = baseName + "_" + variant.size() + "." + variant.extension();
+            blobNames.put(variant.size(), blobName);
+            try {
+                storage.create(BlobInfo.newBuilder(BlobId.of(bucketName, blobName))
+                        .setContentType(variant.contentType())
+                        .build(), variant.bytes(), Storage.BlobTargetOption.doesNotExist());
+            } catch (StorageException e) {
+                if (isAlreadyExists(e)) continue;
+                throw e;
+            }
+            uploadedBlobNames.add(blobName);
+            createdBlobNames.add(blobName);
+        }
+        return blobNames;
+    }
+
+    // doesNotExist 조건 실패(412): 같은 이름의 blob 이 이미 있음
+    private boolean isAlreadyExists(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StorageException storageException && storageException.getCode() == 412) return true;
+        }
+        return false;
+    }
+
+    // 모든 작업이 끝난 뒤(진행 중인 작업 포함) 이 요청이 생성한 파일만 삭제
+    private void compensate(List<CompletableFuture<?>> tasks, Queue<String> uploadedBlobNames) {
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .whenComplete((result, error) -> deleteQuietly(List.copyOf(uploadedBlobNames)));
+    }
+
+    private ThreadPoolExecutor newExecutor(String threadNamePrefix, int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
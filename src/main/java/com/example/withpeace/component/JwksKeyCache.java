@@ -0,0 +1,77 @@
+package com.example.withpeace.component;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.UrlJwkProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URL;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자(Google, Apple)의 공개 키(JWKS) 캐시
+ * - 주기적 갱신은 IdentityTokenVerifier 의 백그라운드 스케줄러에서 수행
+ * - 캐시에 없는 kid 요청 시(키 교체) 최소 간격을 두고 즉시 갱신
+ * - 갱신 실패 시 기존 키 유지
+ */
+@Slf4j
+class JwksKeyCache {
+
+    private static final int CONNECT_TIMEOUT_MS = 3000;
+    private static final int READ_TIMEOUT_MS = 3000;
+
+    private final String name;
+    private final UrlJwkProvider jwkProvider;
+    private final long minRefreshIntervalMillis;
+
+    private volatile Map<String, RSAPublicKey> keys = Map.of();
+    private volatile long lastRefreshMillis = 0;
+
+    JwksKeyCache(String name, URL jwksUrl, Duration minRefreshInterval) {
+        this.name = name;
+        this.jwkProvider = new UrlJwkProvider(jwksUrl, CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS);
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+    }
+
+    // kid 에 해당하는 공개 키 조회 (없으면 키 교체로 보고 갱신 후 재조회)
+    RSAPublicKey getKey(String kid) {
+        RSAPublicKey key = keys.get(kid);
+        if (key != null) return key;
+
+        refreshIfStale();
+        return keys.get(kid);
+    }
+
+    // 백그라운드 주기 갱신
+    void refresh() {
+        synchronized (this) {
+            doRefresh();
+        }
+    }
+
+    private void refreshIfStale() {
+        synchronized (this) {
+            // 다른 스레드가 방금 갱신했거나 최소 간격이 지나지 않았으면 생략 (존재하지 않는 kid 로 인한 과도한 요청 방지)
+            if (System.currentTimeMillis() - lastRefreshMillis < minRefreshIntervalMillis) return;
+            doRefresh();
+        }
+    }
+
+    private void doRefresh() {
+        lastRefreshMillis = System.currentTimeMillis();
+        try {
+            Map<String, RSAPublicKey> refreshed = new HashMap<>();
+            for (Jwk jwk : jwkProvider.getAll()) {
+                if ("RSA".equals(jwk.getType()) && jwk.getId() != null) {
+                    refreshed.put(jwk.getId(), (RSAPublicKey) jwk.getPublicKey());
+                }
+            }
+            keys = Map.copyOf(refreshed);
+            log.info("Refreshed {} JWKS. keyIds={}", name, refreshed.keySet());
+        } catch (Exception e) {
+            log.warn("Failed to refresh {} JWKS, keeping previous keys: {}", name, e.getMessage());
+        }
+    }
+}
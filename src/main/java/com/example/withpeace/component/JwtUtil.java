@@ -3,7 +3,11 @@ package com.example.withpeace.component;
 
 import com.example.withpeace.constant.Constant;
 import com.example.withpeace.dto.JwtTokenDto;
+import com.example.withpeace.security.info.JwtUserInfo;
 import com.example.withpeace.type.ERole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,8 +16,13 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -21,14 +30,48 @@ public class JwtUtil implements InitializingBean {
     private static final Integer ACCESS_EXPIRED_MS = 2 * 60 * 60 * 1000;
     private static final Integer REFRESH_EXPIRED_MS = 7 * 24 * 60 * 60 * 1000;
 
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // 토큰 다이제스트 계산용 (MessageDigest 는 thread-safe 하지 않으므로 스레드별로 재사용)
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     @Value("${jwt.secret}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser; // 서명 키가 고정이므로 한 번만 생성하여 재사용 (thread-safe)
+
+    // 검증이 끝난 액세스 토큰 캐시 (토큰 다이제스트 -> 사용자 정보), 토큰 만료 시각에 맞춰 제거
+    private final Cache<TokenDigest, VerifiedToken> verifiedTokenCache = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<TokenDigest, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(TokenDigest digest, VerifiedToken token, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenDigest digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return expireAfterCreate(digest, token, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(TokenDigest digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     @Override
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public JwtTokenDto generateTokens(Long id, ERole eRole) {
@@ -37,10 +80,34 @@ public class JwtUtil implements InitializingBean {
     }
 
     public Claims validateToken(final String token) throws JwtException {
-        final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         return jwtParser.parseClaimsJws(token).getBody();
     }
 
+    /**
+     * 액세스 토큰 검증 후 사용자 정보 반환
+     * - 같은 토큰은 만료 전까지 서명 검증/JSON 파싱 없이 캐시된 결과 사용
+     * - 캐시 만료는 근사치이므로 조회 시 exp 를 한 번 더 확인
+     */
+    public JwtUserInfo verifyAccessToken(final String token) throws JwtException {
+        final TokenDigest digest = TokenDigest.of(token);
+
+        VerifiedToken verified = verifiedTokenCache.getIfPresent(digest);
+        if (verified != null && verified.expiresAtMillis() > System.currentTimeMillis()) {
+            return verified.userInfo();
+        }
+
+        final Claims claims = validateToken(token);
+        final JwtUserInfo userInfo = new JwtUserInfo(
+                Long.parseLong((String) claims.get(Constant.USER_ID_CLAIM_NAME)),
+                ERole.valueOf((String) claims.get(Constant.USER_ROLE_CLAIM_NAME))
+        );
+        if (claims.getExpiration() != null) { // 만료 시각이 없는 토큰은 캐시하지 않음
+            verifiedTokenCache.put(digest, new VerifiedToken(userInfo, claims.getExpiration().getTime()));
+        }
+
+        return userInfo;
+    }
+
     public String generateToken(Claims claims, final Integer expirationPeriod) {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
@@ -67,4 +134,15 @@ public class JwtUtil implements InitializingBean {
         return (REFRESH_EXPIRED_MS / 1000);
     }
 
+    private record VerifiedToken(JwtUserInfo userInfo, long expiresAtMillis) {}
+
+    // SHA-256 다이제스트(32 byte)를 long 4개로 보관하는 캐시 키 (원본 토큰 문자열은 보관하지 않음)
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+        static TokenDigest of(String token) {
+            MessageDigest messageDigest = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
 }
\ No newline at end of file
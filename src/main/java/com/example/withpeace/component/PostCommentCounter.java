@@ -0,0 +1,125 @@
+package com.example.withpeace.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 댓글 수 카운터 (모든 댓글 등록 경로의 단일 쓰기 경로)
+ * - increment: 댓글 등록 트랜잭션 안에서 임의 샤드 행을 원자적으로 증가 (같은 게시글의 동시 댓글이 posts 행에서 직렬화되지 않음)
+ * - fold: 주기적으로 샤드 증감분을 posts.comment_count 에 더하고 같은 트랜잭션에서 옮긴 만큼 샤드에서 차감 (목록의 댓글 수는 최대 fold 주기만큼 지연)
+ * - reconcile: 매일 COUNT(*) 기준으로 posts.comment_count 를 보정 (아직 옮기지 않은 샤드 증감분 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCounter {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO post_comment_count_shards (post_id, shard, delta) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta)";
+    private static final String SELECT_PENDING_SQL =
+            "SELECT post_id, shard, delta FROM post_comment_count_shards WHERE delta <> 0 ORDER BY post_id, shard LIMIT ?";
+    private static final String APPLY_SQL =
+            "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String CONSUME_SQL =
+            "UPDATE post_comment_count_shards SET delta = delta - ? WHERE post_id = ? AND shard = ?";
+    private static final String CLEANUP_SQL =
+            "DELETE FROM post_comment_count_shards WHERE delta = 0 LIMIT ?";
+    private static final String MAX_POST_ID_SQL =
+            "SELECT COALESCE(MAX(id), 0) FROM posts";
+    private static final String RECONCILE_SQL =
+            "UPDATE posts p SET p.comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id) - " +
+            "COALESCE((SELECT SUM(s.delta) FROM post_comment_count_shards s WHERE s.post_id = p.id), 0) " +
+            "WHERE p.id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${comment-counter.shards:8}")
+    private int shardCount;
+
+    @Value("${comment-counter.fold-batch-size:500}")
+    private int foldBatchSize;
+
+    @Value("${comment-counter.reconcile-chunk-size:1000}")
+    private int reconcileChunkSize;
+
+    private Counter foldedCounter;
+    private Counter correctedCounter;
+
+    @PostConstruct
+    public void init() {
+        foldedCounter = Counter.builder("post.comment_count.folded")
+                .description("샤드에서 posts.comment_count 로 옮긴 댓글 수 증감분")
+                .register(meterRegistry);
+        correctedCounter = Counter.builder("post.comment_count.corrected")
+                .description("정합성 보정으로 댓글 수가 수정된 게시글 수")
+                .register(meterRegistry);
+    }
+
+    // 댓글 등록과 같은 트랜잭션에서 호출 (댓글 INSERT 이후)
+    public void increment(Long postId) {
+        jdbcTemplate.update(INCREMENT_SQL, postId, ThreadLocalRandom.current().nextInt(shardCount), 1);
+    }
+
+    // 댓글 일괄 삭제와 같은 트랜잭션에서 호출 (탈퇴 회원 정리 등)
+    public void decrement(Long postId, int count) {
+        jdbcTemplate.update(INCREMENT_SQL, postId, ThreadLocalRandom.current().nextInt(shardCount), -count);
+    }
+
+    public void fold() {
+        try {
+            List<Object[]> pending = jdbcTemplate.query(SELECT_PENDING_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getInt(2), rs.getLong(3)}, foldBatchSize);
+            if (!pending.isEmpty()) {
+                // 게시글 ID 순으로 잠금 (동시 fold 간 교착 방지)
+                Map<Long, Long> deltaByPostId = new TreeMap<>();
+                pending.forEach(row -> deltaByPostId.merge((Long) row[0], (Long) row[2], Long::sum));
+
+                List<Object[]> applies = new ArrayList<>(deltaByPostId.size());
+                deltaByPostId.forEach((postId, delta) -> applies.add(new Object[]{delta, postId}));
+                List<Object[]> consumes = pending.stream().map(row -> new Object[]{row[2], row[0], row[1]}).toList();
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(APPLY_SQL, applies);
+                    jdbcTemplate.batchUpdate(CONSUME_SQL, consumes);
+                });
+                foldedCounter.increment(deltaByPostId.values().stream().mapToLong(Long::longValue).sum());
+            }
+            jdbcTemplate.update(CLEANUP_SQL, foldBatchSize);
+        } catch (Exception e) {
+            log.warn("Failed to fold comment count shards. error={}", e.getMessage());
+        }
+    }
+
+    // 게시글 ID 구간별로 나누어 짧은 트랜잭션으로 보정
+    public void reconcile() {
+        long maxPostId = jdbcTemplate.queryForObject(MAX_POST_ID_SQL, Long.class);
+        long corrected = 0;
+        for (long from = 1; from <= maxPostId; from += reconcileChunkSize) {
+            long to = from + reconcileChunkSize - 1;
+            try {
+                corrected += jdbcTemplate.update(RECONCILE_SQL, from, to); // 값이 같은 행은 변경 행 수에 포함되지 않음
+            } catch (Exception e) {
+                log.warn("Failed to reconcile comment counts. from={}, to={}, error={}", from, to, e.getMessage());
+            }
+        }
+        correctedCounter.increment(corrected);
+        log.info("Reconciled post comment counts. maxPostId={}, corrected={}", maxPostId, corrected);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.dto.response.CommentListResponseDto;
+import com.example.withpeace.dto.response.PostDetailResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 상세 응답 캐시 (조회자별 값이 없는 조립된 PostDetailResponseDto)
+ * - 로컬(Caffeine, 5초) -> Redis(10분) -> DB 순으로 조회
+ * - 게시글 수정/삭제/이미지 변경/댓글 등록 시 evict, 작성자(게시글 + 첫 페이지 댓글) 프로필 변경 시 evictByAuthor
+ * - 작성자별 역인덱스(Redis SET: 작성자 ID -> 캐시된 게시글 ID)로 프로필 변경 시 관련 게시글만 제거
+ * - evict 마다 버전 값을 올리고, 적재 전후 버전이 다르면 적재 결과를 캐시하지 않아 커밋 전 값이 다시 캐시되는 것을 방지
+ * - 다른 서버의 로컬 캐시는 최대 5초 이내 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private static final String KEY_PREFIX = "post:detail:";
+    private static final String VERSION_KEY_PREFIX = "post:detail:version:";
+    private static final String AUTHOR_KEY_PREFIX = "post:detail:author:";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(5);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Cache<Long, PostDetailResponseDto> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_TTL)
+            .maximumSize(1_000)
+            .build();
+
+    public PostDetailResponseDto get(Long postId, Supplier<PostDetailResponseDto> loader) {
+        // 1. 로컬 캐시 조회
+        PostDetailResponseDto detail = localCache.getIfPresent(postId);
+        if (detail != null) return detail;
+
+        // 2. Redis 캐시 조회
+        detail = getFromRedis(postId);
+        if (detail != null) {
+            localCache.put(postId, detail);
+            return detail;
+        }
+
+        // 3. 캐시 미스 -> DB 조회 후 적재 전후 버전이 같을 때만 캐시 저장
+        String version = getVersion(postId);
+        detail = loader.get();
+        if (Objects.equals(version, getVersion(postId))) {
+            localCache.put(postId, detail);
+            putToRedis(detail);
+        }
+        return detail;
+    }
+
+    // 게시글 캐시 제거 (트랜잭션 진행 중이면 완료 이후 한 번 더 제거)
+    public void evict(Long postId) {
+        evictNow(postId);
+        afterCompletion(() -> evictNow(postId));
+    }
+
+    // 작성자(게시글/댓글)로 포함된 모든 게시글 캐시 제거 (닉네임, 프로필 이미지 변경 시)
+    public void evictByAuthor(Long userId) {
+        evictByAuthorNow(userId);
+        afterCompletion(() -> evictByAuthorNow(userId));
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            String versionKey = VERSION_KEY_PREFIX + postId;
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, REDIS_TTL);
+            redisTemplate.delete(KEY_PREFIX + postId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict post detail cache. postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    private void evictByAuthorNow(Long userId) {
+        Set<String> postIds;
+        try {
+            postIds = redisTemplate.opsForSet().members(AUTHOR_KEY_PREFIX + userId);
+            redisTemplate.delete(AUTHOR_KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict post detail cache by author. userId={}, error={}", userId, e.getMessage());
+            return;
+        }
+        if (postIds == null) return;
+        postIds.forEach(postId -> evictNow(Long.valueOf(postId)));
+    }
+
+    private String getVersion(Long postId) {
+        try {
+            return redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + postId);
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+
+    private PostDetailResponseDto getFromRedis(Long postId) {
+        try {
+            String cachedJson = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            if (cachedJson == null) return null;
+
+            return objectMapper.readValue(cachedJson, PostDetailResponseDto.class);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, fallback to DB: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to deserialize cached post detail: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void putToRedis(PostDetailResponseDto detail) {
+        try {
+            String cacheValue = objectMapper.writeValueAsString(detail);
+            redisTemplate.opsForValue().set(KEY_PREFIX + detail.postId(), cacheValue, REDIS_TTL);
+
+            // 작성자 역인덱스 (게시글 작성자 + 포함된 댓글 작성자)
+            Set<Long> authorIds = Stream.concat(Stream.of(detail.userId()),
+                            detail.comments().stream().map(CommentListResponseDto::userId))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            for (Long authorId : authorIds) {
+                String authorKey = AUTHOR_KEY_PREFIX + authorId;
+                redisTemplate.opsForSet().add(authorKey, String.valueOf(detail.postId()));
+                redisTemplate.expire(authorKey, REDIS_TTL);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache post detail to Redis: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to serialize post detail for caching: {}", e.getMessage());
+        }
+    }
+}
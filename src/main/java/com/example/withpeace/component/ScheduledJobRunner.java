@@ -0,0 +1,170 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.dto.response.JobRunResponseDto;
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 클러스터에서 한 노드만 실행하는 스케줄 작업 실행기
+ * - SchedulerLock 을 획득한 노드만 실행하고, 나머지 노드는 건너뜀
+ * - 작업별 마지막 실행(상태, 소유자, 시작/종료 시각, 소요 시간)을 Redis HASH 에 기록하며, 더 큰 fencing token 으로 기록된 실행은 덮어쓰지 않음
+ * - fencing token 은 실행 기록에만 적용되며, 작업의 DB/스토리지 쓰기는 보호하지 않음
+ *   긴 작업은 전달받은 leaseHeld 를 청크/배치 사이마다 확인하여 잠금을 잃으면 다음 확인 지점에서 중단
+ * - Redis 장애 시 중복 실행을 막기 위해 실행하지 않음 (다음 주기에 다시 시도)
+ * - 스케줄이 꺼진 노드(api 프로필)의 수동 실행은 Redis 에 요청만 남기고, worker 노드가 폴링하여 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private static final String RUN_KEY_PREFIX = "scheduler:run:";
+    private static final String JOBS_KEY = "scheduler:jobs";
+    private static final String REQUESTS_KEY = "scheduler:requests";
+
+    // ARGV[1]: fencing token, ARGV[2..]: 필드/값 쌍, 반환: 1 기록, 0 더 최근 실행이 있어 건너뜀
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'fencingToken') or '0')
+            if current > tonumber(ARGV[1]) then return 0 end
+            if current < tonumber(ARGV[1]) then redis.call('DEL', KEYS[1]) end
+            redis.call('HSET', KEYS[1], 'fencingToken', ARGV[1])
+            for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            return 1
+            """, Long.class);
+
+    private final SchedulerLock schedulerLock;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.scheduling.enabled:true}")
+    private boolean schedulingEnabled;
+
+    /**
+     * 잠금을 획득한 경우에만 실행
+     * @return 실행 여부
+     */
+    public boolean run(String jobName, Duration leaseTime, Runnable job) {
+        return run(jobName, leaseTime, leaseHeld -> job.run());
+    }
+
+    /**
+     * 잠금을 획득한 경우에만 실행 (job 에 잠금 유지 여부 전달)
+     * @return 실행 여부
+     */
+    public boolean run(String jobName, Duration leaseTime, Consumer<BooleanSupplier> job) {
+        Optional<SchedulerLock.Lease> acquired;
+        try {
+            acquired = schedulerLock.tryAcquire(jobName, leaseTime);
+        } catch (DataAccessException e) {
+            log.error("Redis unavailable, skip scheduled job. job={}, error={}", jobName, e.getMessage());
+            meterRegistry.counter("scheduler.job.skipped", "job", jobName, "reason", "lock_unavailable").increment();
+            return false;
+        }
+        if (acquired.isEmpty()) {
+            meterRegistry.counter("scheduler.job.skipped", "job", jobName, "reason", "locked").increment();
+            return false;
+        }
+
+        try (SchedulerLock.Lease lease = acquired.get()) {
+            execute(jobName, lease, job);
+        }
+        return true;
+    }
+
+    // 관리자 수동 실행 (다른 노드에서 실행 중이면 예외)
+    public void runOrThrow(String jobName, Duration leaseTime, Consumer<BooleanSupplier> job) {
+        if (!run(jobName, leaseTime, job)) throw new CommonException(ErrorCode.JOB_ALREADY_RUNNING);
+    }
+
+    /**
+     * 관리자 수동 실행
+     * - 스케줄 작업을 실행하는 노드면 바로 실행, 아니면 worker 노드에 실행 요청 (API 서버 JVM 에서 배치 작업을 돌리지 않음)
+     * - 다른 노드에서 실행 중이면 예외
+     */
+    public void runOnWorker(String jobName, Duration leaseTime, Consumer<BooleanSupplier> job) {
+        if (schedulingEnabled) {
+            runOrThrow(jobName, leaseTime, job);
+            return;
+        }
+        if (schedulerLock.getHolder(jobName) != null) throw new CommonException(ErrorCode.JOB_ALREADY_RUNNING);
+        redisTemplate.opsForSet().add(REQUESTS_KEY, jobName);
+        log.info("Scheduled job requested. job={}", jobName);
+    }
+
+    // 수동 실행 요청을 꺼냄 (요청이 있었으면 true)
+    public boolean takeRequest(String jobName) {
+        try {
+            Long removed = redisTemplate.opsForSet().remove(REQUESTS_KEY, jobName);
+            return removed != null && removed > 0;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read scheduled job requests. job={}, error={}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    // 작업별 마지막 실행 현황 (관리자 조회)
+    public List<JobRunResponseDto> getLastRuns() {
+        List<String> jobNames = new ArrayList<>(Optional.ofNullable(redisTemplate.opsForSet().members(JOBS_KEY)).orElse(Set.of()));
+        Collections.sort(jobNames);
+
+        return jobNames.stream().map(jobName -> {
+            Map<String, String> run = new HashMap<>();
+            redisTemplate.opsForHash().entries(RUN_KEY_PREFIX + jobName)
+                    .forEach((field, value) -> run.put(field.toString(), value.toString()));
+            return JobRunResponseDto.of(jobName, run, schedulerLock.getHolder(jobName));
+        }).toList();
+    }
+
+    private void execute(String jobName, SchedulerLock.Lease lease, Consumer<BooleanSupplier> job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        record(jobName, lease, "status", "RUNNING", "owner", schedulerLock.getOwner(), "startedAt", startedAt.toString());
+
+        String status = "SUCCEEDED";
+        String error = "";
+        try {
+            job.accept(lease::isHeld);
+        } catch (RuntimeException e) {
+            status = "FAILED";
+            error = String.valueOf(e.getMessage());
+            log.error("Scheduled job failed. job={}, error={}", jobName, e.getMessage(), e);
+            throw e;
+        } finally {
+            if (!lease.isHeld()) status = "LEASE_LOST"; // 실행 중 다른 노드가 잠금을 획득했을 수 있음
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            meterRegistry.timer("scheduler.job.duration", "job", jobName, "status", status).record(duration);
+            record(jobName, lease, "status", status, "finishedAt", LocalDateTime.now().toString(),
+                    "durationMs", String.valueOf(duration.toMillis()), "error", error);
+        }
+    }
+
+    private void record(String jobName, SchedulerLock.Lease lease, String... fields) {
+        try {
+            String[] args = new String[fields.length + 1];
+            args[0] = String.valueOf(lease.getFencingToken());
+            System.arraycopy(fields, 0, args, 1, fields.length);
+            Long recorded = redisTemplate.execute(RECORD_SCRIPT, List.of(RUN_KEY_PREFIX + jobName), (Object[]) args);
+            if (recorded != null && recorded == 0L) {
+                log.warn("Stale scheduled job record ignored. job={}, token={}", jobName, lease.getFencingToken());
+            }
+            redisTemplate.opsForSet().add(JOBS_KEY, jobName);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record scheduled job run. job={}, error={}", jobName, e.getMessage());
+        }
+    }
+}
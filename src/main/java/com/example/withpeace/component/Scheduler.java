@@ -1,21 +1,68 @@
 package com.example.withpeace.component;
 
-import com.example.withpeace.repository.UserRepository;
+import com.example.withpeace.service.PolicyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
+/**
+ * 클러스터 단위 스케줄 작업
+ * - 모든 노드에서 트리거되지만 ScheduledJobRunner 의 잠금을 획득한 한 노드만 실행
+ * - lease 는 실행 노드가 비정상 종료되었을 때 잠금이 풀리기까지의 시간 (실행 중에는 heartbeat 로 계속 연장)
+ * - 반복 처리하는 작업(회원 삭제, 정책 갱신, blob 삭제)은 잠금을 잃으면 다음 청크/배치 전에 중단
+ */
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
-    private final UserRepository userRepository;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final WithdrawnUserPurger withdrawnUserPurger;
+    private final PolicyService policyService;
+    private final PostCommentCounter postCommentCounter;
+    private final BlobDeletionWorker blobDeletionWorker;
+    private final BalanceGameTally balanceGameTally;
+
+    public static final String REFRESH_YOUTH_POLICIES = "refreshYouthPolicies";
+    public static final Duration REFRESH_YOUTH_POLICIES_LEASE = Duration.ofMinutes(2);
 
     // 00시 00분 00초에 실행
     @Scheduled(cron = "0 0 0 * * *")
     public void withdrawalUsers(){
-        userRepository.deleteUsersByDeleteDate(LocalDate.now().minusDays(14));
+        scheduledJobRunner.run("withdrawalUsers", Duration.ofMinutes(2),
+                leaseHeld -> withdrawnUserPurger.purge(LocalDate.now().minusDays(14), leaseHeld));
+    }
+
+    // 매일 00:00에 청년 정책 갱신
+    @Scheduled(cron = "0 0 0 * * *")
+    public void refreshYouthPolicies() {
+        scheduledJobRunner.run(REFRESH_YOUTH_POLICIES, REFRESH_YOUTH_POLICIES_LEASE, policyService::refreshYouthPolicies);
+    }
+
+    // api 노드에서 요청한 수동 갱신 실행
+    @Scheduled(fixedDelayString = "${scheduler.request-poll-interval:PT5S}")
+    public void runRequestedJobs() {
+        if (scheduledJobRunner.takeRequest(REFRESH_YOUTH_POLICIES)) refreshYouthPolicies();
     }
-}
 
+    @Scheduled(fixedDelayString = "${comment-counter.fold-interval:PT10S}", initialDelayString = "${comment-counter.fold-interval:PT10S}")
+    public void foldCommentCounts() {
+        scheduledJobRunner.run("foldCommentCounts", Duration.ofMinutes(1), postCommentCounter::fold);
+    }
+
+    @Scheduled(cron = "${comment-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCommentCounts() {
+        scheduledJobRunner.run("reconcileCommentCounts", Duration.ofMinutes(2), postCommentCounter::reconcile);
+    }
+
+    @Scheduled(fixedDelayString = "${blob-deletion.interval:PT30S}", initialDelayString = "${blob-deletion.initial-delay:PT30S}")
+    public void drainBlobDeletions() {
+        scheduledJobRunner.run("drainBlobDeletions", Duration.ofMinutes(1), blobDeletionWorker::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${balance-game.tally.reconcile-interval:PT5M}")
+    public void reconcileBalanceGameTally() {
+        scheduledJobRunner.run("reconcileBalanceGameTally", Duration.ofMinutes(1), balanceGameTally::reconcile);
+    }
+}
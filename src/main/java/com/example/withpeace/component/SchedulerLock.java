@@ -0,0 +1,154 @@
+package com.example.withpeace.component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업용 클러스터 잠금 (Redis lease)
+ * - scheduler:lock:{job} 에 "소유자:토큰" 을 만료 시간과 함께 저장, 이미 있으면 획득 실패
+ * - 토큰(fencing token)은 작업별 INCR 값으로 획득마다 증가하여, lease 를 잃은 이전 소유자의 늦은 기록을 구분
+ * - 작업이 실행되는 동안 lease 의 1/3 주기로 만료 시간을 연장하고, 연장에 실패하면 lease 를 잃은 것으로 표시
+ * - Redis 장애로 연장 결과를 알 수 없는 동안에도 마지막 연장 요청 시각부터 lease 의 80% 가 지나면 잃은 것으로 판단
+ *   (키가 만료되어 다른 노드가 획득하기 전에 isHeld 가 false 가 되도록 여유를 둠)
+ * - 연장/해제는 값이 자신의 것일 때만 수행 (Lua)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+
+    private static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+    private static final String FENCE_KEY_PREFIX = "scheduler:lock:fence:";
+    private static final int SAFETY_MARGIN_DIVISOR = 5; // lease 의 1/5 을 만료 전 여유로 사용
+
+    // 반환: 획득한 토큰, 이미 잠겨 있으면 0
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 잠금 획득 시도
+     * - 다른 노드가 보유 중이면 빈 값, Redis 장애 시 DataAccessException
+     */
+    public Optional<Lease> tryAcquire(String jobName, Duration leaseTime) {
+        String lockKey = LOCK_KEY_PREFIX + jobName;
+        long requestedAt = System.nanoTime(); // 요청 전 시각 기준 (응답 지연만큼 보수적으로 계산)
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(lockKey, FENCE_KEY_PREFIX + jobName),
+                owner, String.valueOf(leaseTime.toMillis()));
+        if (token == null || token == 0L) return Optional.empty();
+
+        Lease lease = new Lease(lockKey, owner + ":" + token, token, leaseTime, requestedAt);
+        long renewInterval = Math.max(1, leaseTime.toMillis() / 3);
+        lease.renewal = heartbeat.scheduleAtFixedRate(lease::renew, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+        return Optional.of(lease);
+    }
+
+    // 현재 잠금 보유자 ("소유자:토큰"), 없으면 null
+    public String getHolder(String jobName) {
+        return redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + jobName);
+    }
+
+    public class Lease implements AutoCloseable {
+
+        private final String lockKey;
+        private final String value;
+        private final long fencingToken;
+        private final Duration leaseTime;
+        private volatile boolean held = true;
+        private volatile long lastRenewedAt; // 마지막으로 성공한 획득/연장 요청 시각 (System.nanoTime)
+        private ScheduledFuture<?> renewal;
+
+        private Lease(String lockKey, String value, long fencingToken, Duration leaseTime, long acquiredAt) {
+            this.lockKey = lockKey;
+            this.value = value;
+            this.fencingToken = fencingToken;
+            this.leaseTime = leaseTime;
+            this.lastRenewedAt = acquiredAt;
+        }
+
+        public long getFencingToken() {
+            return fencingToken;
+        }
+
+        // false 이면 만료되어 다른 노드가 획득했을 수 있음 (연장 실패 또는 연장 없이 lease 의 80% 경과)
+        public boolean isHeld() {
+            long safeLeaseNanos = leaseTime.toNanos() - leaseTime.toNanos() / SAFETY_MARGIN_DIVISOR;
+            return held && System.nanoTime() - lastRenewedAt < safeLeaseNanos;
+        }
+
+        private void renew() {
+            if (!held) return;
+            try {
+                long requestedAt = System.nanoTime();
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), value, String.valueOf(leaseTime.toMillis()));
+                if (renewed != null && renewed != 0L) {
+                    lastRenewedAt = requestedAt;
+                } else {
+                    held = false;
+                    renewal.cancel(false);
+                    log.warn("Scheduler lock lost. key={}, token={}", lockKey, fencingToken);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to renew scheduler lock. key={}, error={}", lockKey, e.getMessage()); // 만료 전 다음 주기에 재시도
+            }
+        }
+
+        @Override
+        public void close() {
+            renewal.cancel(false);
+            if (!held) return;
+            held = false;
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), value);
+            } catch (DataAccessException e) {
+                log.warn("Failed to release scheduler lock. key={}, error={}", lockKey, e.getMessage()); // lease 만료로 해제됨
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCS 직접 업로드용 V4 서명 URL 발급/확인
+ * - 클라이언트가 서명 URL 로 버킷에 직접 PUT 하므로 이미지 바이트가 애플리케이션 서버(Tomcat 스레드, 힙)를 거치지 않음
+ * - 서명에 blob 이름, Content-Type, 크기 범위(x-goog-content-length-range)를 포함하여 발급된 경로/형식/크기로만 업로드 가능
+ * - x-goog-if-generation-match: 0 도 서명에 포함하여 없는 blob 만 생성 (확인 이후 URL 유효 기간 안에 내용을 덮어쓸 수 없음)
+ * - 확인 단계에서 blob 존재, 크기, Content-Type 을 다시 검사한 뒤 DB 에 반영 (내용은 다시 읽지 않으므로 blob 이름은 서버가 생성한 임의 값 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignedUploadUrlIssuer {
+
+    private static final String CONTENT_LENGTH_RANGE_HEADER = "x-goog-content-length-range";
+    private static final String IF_GENERATION_MATCH_HEADER = "x-goog-if-generation-match";
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "image/heic", "image/heif");
+
+    private final Storage storage;
+
+    @Value("${spring.cloud.gcp.storage.bucket}")
+    private String bucketName;
+
+    @Value("${image.signed-upload.ttl:PT10M}")
+    private Duration ttl;
+
+    @Value("${image.signed-upload.max-size:10485760}")
+    private long maxSize; // 기존 multipart 제한(10MB)과 동일
+
+    /**
+     * 서명 URL 발급 결과
+     * - 클라이언트는 headers 를 그대로 포함하여 uploadUrl 로 PUT 요청
+     */
+    public record SignedUpload(String blobName, String uploadUrl, Map<String, String> headers, Instant expiresAt) {}
+
+    public SignedUpload issue(String blobName, String contentType) {
+        if (!isAllowedContentType(contentType)) throw new CommonException(ErrorCode.UNSUPPORTED_MEDIA_TYPE);
+
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, blobName))
+                .setContentType(contentType)
+                .build();
+        Map<String, String> extensionHeaders = Map.of(
+                CONTENT_LENGTH_RANGE_HEADER, "1," + maxSize,
+                IF_GENERATION_MATCH_HEADER, "0"); // 이미 있으면 412 (한 번만 업로드)
+
+        try {
+            URL url = storage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS,
+                    Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                    Storage.SignUrlOption.withV4Signature(),
+                    Storage.SignUrlOption.withContentType(),
+                    Storage.SignUrlOption.withExtHeaders(extensionHeaders));
+
+            return new SignedUpload(blobName, url.toString(),
+                    Map.of("Content-Type", contentType,
+                            CONTENT_LENGTH_RANGE_HEADER, extensionHeaders.get(CONTENT_LENGTH_RANGE_HEADER),
+                            IF_GENERATION_MATCH_HEADER, extensionHeaders.get(IF_GENERATION_MATCH_HEADER)),
+                    Instant.now().plus(ttl));
+        } catch (RuntimeException e) {
+            log.error("Failed to sign upload url. blobName={}, error={}", blobName, e.getMessage());
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /**
+     * 직접 업로드된 blob 확인 (한 번의 배치 조회)
+     * - 없거나, 허용하지 않는 형식이거나, 크기를 넘으면 NOT_UPLOADED_FILE
+     */
+    public void verifyUploaded(List<String> blobNames) {
+        if (blobNames.isEmpty()) return;
+
+        List<Blob> blobs = storage.get(blobNames.stream().map(blobName -> BlobId.of(bucketName, blobName)).toList());
+        for (int idx = 0; idx < blobNames.size(); idx++) {
+            Blob blob = blobs.get(idx);
+            if (blob == null || !isAllowedContentType(blob.getContentType())
+                    || blob.getSize() == null || blob.getSize() > maxSize) {
+                log.warn("Uploaded blob is missing or invalid. blobName={}", blobNames.get(idx));
+                throw new CommonException(ErrorCode.NOT_UPLOADED_FILE);
+            }
+        }
+    }
+
+    private boolean isAllowedContentType(String contentType) {
+        return contentType != null && ALLOWED_CONTENT_TYPES.contains(contentType);
+    }
+}
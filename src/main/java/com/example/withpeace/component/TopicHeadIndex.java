@@ -0,0 +1,73 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.domain.Post;
+import com.example.withpeace.repository.PostRepository;
+import com.example.withpeace.repository.TopicHeadRepository;
+import com.example.withpeace.type.ETopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * 주제별 최신 게시글 포인터(topic_heads) 관리
+ * - 게시글 등록/삭제/주제 변경 시 호출한 트랜잭션 안에서 갱신 (자주보는 게시판 조회는 주제당 한 행만 읽음)
+ * - 등록은 조건부 upsert 로 더 최신일 때만 이동, 삭제/주제 변경으로 포인터 게시글이 빠지면 idx_posts_type_create_date 로 다음 최신 게시글 재조회
+ * - 삭제/재구성은 포인터 행을 FOR UPDATE 로 잠근 뒤 확인/재조회하여, 동시에 등록된 게시글의 advance 가 먼저 커밋되거나 뒤에 적용되도록 직렬화
+ * - 애플리케이션 시작 시 전체 주제를 재구성하여 어긋난 포인터 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicHeadIndex {
+
+    private final TopicHeadRepository topicHeadRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public void onPostCreated(Post post) {
+        topicHeadRepository.advance(post.getType().name(), post.getId(), post.getCreateDate());
+    }
+
+    // postRepository.delete 이후 호출 (재조회 쿼리 전에 삭제가 flush 되어 삭제된 게시글은 제외됨)
+    public void onPostDeleted(Post post) {
+        if (isHead(post.getType(), post.getId())) refresh(post.getType());
+    }
+
+    // post.setType 이후 호출 (재조회 쿼리 전에 변경이 flush 됨)
+    public void onPostTopicChanged(Post post, ETopic oldType) {
+        if (isHead(oldType, post.getId())) refresh(oldType);
+        onPostCreated(post);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ETopic topic : ETopic.values()) {
+                    topicHeadRepository.findPostIdForUpdate(topic.name());
+                    refresh(topic);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to rebuild topic heads. error={}", e.getMessage(), e);
+        }
+    }
+
+    // 포인터 행을 잠근 채로 확인 (호출한 트랜잭션이 끝날 때까지 같은 주제의 advance 대기)
+    private boolean isHead(ETopic topic, Long postId) {
+        return topicHeadRepository.findPostIdForUpdate(topic.name())
+                .filter(headPostId -> Objects.equals(headPostId, postId))
+                .isPresent();
+    }
+
+    private void refresh(ETopic topic) {
+        postRepository.findFirstByTypeOrderByCreateDateDescIdDesc(topic).ifPresentOrElse(
+                latest -> topicHeadRepository.overwrite(topic.name(), latest.getId(), latest.getCreateDate()),
+                () -> topicHeadRepository.overwrite(topic.name(), null, null));
+    }
+}
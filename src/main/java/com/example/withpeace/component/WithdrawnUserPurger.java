@@ -0,0 +1,216 @@
+package com.example.withpeace.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 탈퇴 유예 기간이 지난 회원 삭제
+ * - 회원을 chunk-size 명씩 처리하고, 종속 데이터는 자식 -> 부모 순으로 batch-size 행씩 짧은 트랜잭션에서 삭제 (DB CASCADE 한 번에 의존하지 않음)
+ * - 트랜잭션 사이에 pause 만큼 쉬어 다른 요청의 잠금 대기와 복제 지연을 제한
+ * - 게시글 이미지와 프로필 이미지는 삭제 트랜잭션과 함께 BlobDeletionOutbox 에 등록
+ * - 다른 게시글에 작성한 댓글 수는 PostCommentCounter 로 차감
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WithdrawnUserPurger {
+
+    private static final String SELECT_USERS_SQL =
+            "SELECT id FROM users WHERE is_deleted = 1 AND delete_date < :cutoffDate ORDER BY id LIMIT :limit";
+    private static final String SELECT_POSTS_SQL =
+            "SELECT id FROM posts WHERE writer_id IN (:userIds) ORDER BY id LIMIT :limit";
+    private static final String SELECT_WRITTEN_COMMENTS_SQL =
+            "SELECT id, post_id FROM comments WHERE writer_id IN (:userIds) ORDER BY id LIMIT :limit";
+    private static final String SELECT_IMAGE_URLS_SQL =
+            "SELECT url, thumbnail_url, medium_url FROM images WHERE post_id IN (:postIds)";
+    private static final String SELECT_PROFILE_IMAGES_SQL =
+            "SELECT profile_image FROM users WHERE id IN (:userIds)";
+
+    // 사용자 ID 기준으로 batch-size 행씩 반복 삭제할 종속 테이블 (자식 -> 부모 순)
+    private static final List<Dependent> USER_DEPENDENTS = List.of(
+            new Dependent("reports", "writer_id"),
+            new Dependent("favorite_policies", "user_id"),
+            new Dependent("user_interactions", "user_id"),
+            new Dependent("balance_game_choices", "user_id"),
+            new Dependent("user_regions", "user_id"),
+            new Dependent("user_classifications", "user_id"));
+
+    private record Dependent(String table, String userColumn) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobDeletionOutbox blobDeletionOutbox;
+    private final ImageUploader imageUploader;
+    private final PostCommentCounter postCommentCounter;
+    private final PostDetailCache postDetailCache;
+    private final FavoritePolicyIdCache favoritePolicyIdCache;
+    private final TopicHeadIndex topicHeadIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user-purge.chunk-size:20}")
+    private int chunkSize;
+
+    @Value("${user-purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user-purge.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${user-purge.max-users-per-run:2000}")
+    private int maxUsersPerRun;
+
+    /**
+     * cutoffDate 이전에 탈퇴한 회원 삭제
+     * - 한 번에 최대 max-users-per-run 명, 남은 회원은 다음 실행에서 처리
+     * - 청크마다 leaseHeld 를 확인하여 스케줄러 잠금을 잃으면 중단 (다른 노드와 동시에 삭제하지 않음)
+     * @return 삭제한 회원 수
+     */
+    public int purge(LocalDate cutoffDate, BooleanSupplier leaseHeld) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int purgedUsers = 0;
+        try {
+            while (purgedUsers < maxUsersPerRun) {
+                if (!leaseHeld.getAsBoolean()) {
+                    log.warn("Scheduler lock lost, stop withdrawn user purge. purged={}", purgedUsers);
+                    break;
+                }
+                List<Long> userIds = jdbcTemplate.queryForList(SELECT_USERS_SQL,
+                        new MapSqlParameterSource("cutoffDate", cutoffDate)
+                                .addValue("limit", Math.min(chunkSize, maxUsersPerRun - purgedUsers)),
+                        Long.class);
+                if (userIds.isEmpty()) break;
+
+                purgeChunk(userIds);
+                purgedUsers += userIds.size();
+                meterRegistry.counter("user.purge.users").increment(userIds.size());
+                log.info("Purged withdrawn users. chunk={}, total={}", userIds.size(), purgedUsers);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Withdrawn user purge interrupted. purged={}", purgedUsers);
+        } finally {
+            sample.stop(meterRegistry.timer("user.purge.duration"));
+        }
+        return purgedUsers;
+    }
+
+    private void purgeChunk(List<Long> userIds) throws InterruptedException {
+        MapSqlParameterSource userParams = new MapSqlParameterSource("userIds", userIds).addValue("limit", batchSize);
+        Set<Long> affectedPostIds = new HashSet<>();
+        boolean postsDeleted = false;
+
+        // 1. 작성한 게시글 (신고 -> 댓글 -> 이미지/게시글)
+        List<Long> postIds;
+        while (!(postIds = jdbcTemplate.queryForList(SELECT_POSTS_SQL, userParams, Long.class)).isEmpty()) {
+            purgePosts(postIds);
+            affectedPostIds.addAll(postIds);
+            postsDeleted = true;
+        }
+
+        // 2. 다른 게시글/밸런스게임에 작성한 댓글 (신고 -> 댓글, 게시글 댓글 수 차감)
+        while (true) {
+            Set<Long> commentedPostIds = transactionTemplate.execute(status -> purgeWrittenComments(userParams));
+            if (commentedPostIds == null) break;
+            affectedPostIds.addAll(commentedPostIds);
+            throttle();
+        }
+
+        // 3. 사용자 종속 데이터
+        for (Dependent dependent : USER_DEPENDENTS) {
+            deleteInBatches(dependent.table(), "DELETE FROM " + dependent.table()
+                    + " WHERE " + dependent.userColumn() + " IN (:userIds) LIMIT :limit", userParams);
+        }
+
+        // 4. 회원 (프로필 이미지 삭제 예약과 함께)
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> profileImages = jdbcTemplate.queryForList(SELECT_PROFILE_IMAGES_SQL, userParams, String.class);
+            blobDeletionOutbox.enqueue(profileImages.stream()
+                    .filter(url -> url != null && !url.equals("default.png"))
+                    .map(imageUploader::toBlobName)
+                    .toList());
+            count("users", jdbcTemplate.update("DELETE FROM users WHERE id IN (:userIds)", userParams));
+        });
+
+        // 5. 캐시 정리
+        affectedPostIds.forEach(postDetailCache::evict);
+        userIds.forEach(userId -> {
+            postDetailCache.evictByAuthor(userId);
+            favoritePolicyIdCache.evict(userId);
+        });
+        if (postsDeleted) topicHeadIndex.rebuild();
+        throttle();
+    }
+
+    private void purgePosts(List<Long> postIds) throws InterruptedException {
+        MapSqlParameterSource postParams = new MapSqlParameterSource("postIds", postIds).addValue("limit", batchSize);
+
+        deleteInBatches("reports", "DELETE FROM reports WHERE comment_id IN " +
+                "(SELECT id FROM comments WHERE post_id IN (:postIds)) LIMIT :limit", postParams);
+        deleteInBatches("comments", "DELETE FROM comments WHERE post_id IN (:postIds) LIMIT :limit", postParams);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> imageUrls = new ArrayList<>();
+            jdbcTemplate.query(SELECT_IMAGE_URLS_SQL, postParams, resultSet -> {
+                for (int column = 1; column <= 3; column++) {
+                    String url = resultSet.getString(column);
+                    if (url != null) imageUrls.add(url);
+                }
+            });
+            blobDeletionOutbox.enqueue(imageUrls.stream().map(imageUploader::toBlobName).toList());
+
+            count("images", jdbcTemplate.update("DELETE FROM images WHERE post_id IN (:postIds)", postParams));
+            count("reports", jdbcTemplate.update("DELETE FROM reports WHERE post_id IN (:postIds)", postParams));
+            jdbcTemplate.update("DELETE FROM post_comment_count_shards WHERE post_id IN (:postIds)", postParams);
+            count("posts", jdbcTemplate.update("DELETE FROM posts WHERE id IN (:postIds)", postParams));
+        });
+        throttle();
+    }
+
+    // 삭제한 댓글이 달려 있던 게시글 ID 반환, 남은 댓글이 없으면 null
+    private Set<Long> purgeWrittenComments(MapSqlParameterSource userParams) {
+        List<Long> commentIds = new ArrayList<>();
+        Map<Long, Integer> deletedCountsByPost = new HashMap<>();
+        jdbcTemplate.query(SELECT_WRITTEN_COMMENTS_SQL, userParams, resultSet -> {
+            commentIds.add(resultSet.getLong("id"));
+            long postId = resultSet.getLong("post_id");
+            if (!resultSet.wasNull()) deletedCountsByPost.merge(postId, 1, Integer::sum); // 밸런스게임 댓글은 post_id 없음
+        });
+        if (commentIds.isEmpty()) return null;
+
+        MapSqlParameterSource commentParams = new MapSqlParameterSource("commentIds", commentIds);
+        count("reports", jdbcTemplate.update("DELETE FROM reports WHERE comment_id IN (:commentIds)", commentParams));
+        count("comments", jdbcTemplate.update("DELETE FROM comments WHERE id IN (:commentIds)", commentParams));
+        deletedCountsByPost.forEach(postCommentCounter::decrement);
+        return deletedCountsByPost.keySet();
+    }
+
+    private void deleteInBatches(String table, String sql, MapSqlParameterSource params) throws InterruptedException {
+        int deleted;
+        do {
+            deleted = Objects.requireNonNull(transactionTemplate.execute(status -> jdbcTemplate.update(sql, params)));
+            count(table, deleted);
+            if (deleted > 0) throttle();
+        } while (deleted >= batchSize);
+    }
+
+    private void count(String table, int rows) {
+        if (rows > 0) meterRegistry.counter("user.purge.rows", "table", table).increment(rows);
+    }
+
+    private void throttle() throws InterruptedException {
+        if (!pause.isZero()) Thread.sleep(pause.toMillis());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.withpeace.config;
+
+import com.example.withpeace.security.RouteTable;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * HTTP 요청 메트릭 설정
+ * - http.server.requests 타이머에 RouteTable 경로 분류(access=public/permit/user/admin/authenticated) 태그 추가
+ */
+@Configuration
+public class ObservationConfig {
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention(RouteTable routeTable) {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("access", routeTable.classify(context.getCarrier()).toString()));
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.withpeace.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화
+ * - app.scheduling.enabled=false(api 프로필)이면 @Scheduled 작업을 등록하지 않아 API 서버는 사용자 요청만 처리
+ * - worker 프로필 서버가 정책 동기화, 탈퇴 회원 정리 등 배치 작업을 전담 (같은 빌드 산출물을 프로필로 구분)
+ * - 설정이 없으면 활성화 (단일 서버 구성 유지)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.example.withpeace.config;
 import com.example.withpeace.constant.Constant;
 import com.example.withpeace.security.JwtAuthEntryPoint;
 import com.example.withpeace.security.JwtAuthenticationProvider;
+import com.example.withpeace.security.RouteTable;
 import com.example.withpeace.security.filter.JwtAuthenticationFilter;
 import com.example.withpeace.security.filter.JwtExceptionFilter;
 import com.example.withpeace.security.handler.CustomLogOutProcessHandler;
@@ -10,6 +11,7 @@ import com.example.withpeace.security.handler.CustomLogOutResultHandler;
 import com.example.withpeace.security.handler.JwtAccessDeniedHandler;
 import com.example.withpeace.security.service.CustomUserDetailService;
 import com.example.withpeace.type.ERole;
+import com.example.withpeace.type.ERouteAccess;
 import com.example.withpeace.component.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +22,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -36,6 +39,8 @@ public class SecurityConfig {
     private final CustomLogOutProcessHandler customLogOutProcessHandler;
     private final CustomLogOutResultHandler customLogOutResultHandler;
 
+    private final RouteTable routeTable;
+
     @Bean
     protected SecurityFilterChain securityFilterChain(final HttpSecurity httpSecurity) throws Exception {
 
@@ -46,9 +51,10 @@ public class SecurityConfig {
                 .sessionManagement((sessionManagement) ->
                         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(requestMatcherRegistry -> {
-                    requestMatcherRegistry.requestMatchers(Constant.PUBLIC_URLS).permitAll();
-                    requestMatcherRegistry.requestMatchers(Constant.USER_URLS).hasAnyRole(ERole.USER.toString(), ERole.ADMIN.toString());
-                    requestMatcherRegistry.requestMatchers(Constant.ADMIN_URLS).hasRole(ERole.ADMIN.toString());
+                    // 경로 분류는 RouteTable 한 곳에서 관리 (JWT 필터, 인터셉터와 같은 기준)
+                    requestMatcherRegistry.requestMatchers(routeMatcher(ERouteAccess.PUBLIC), routeMatcher(ERouteAccess.PERMIT)).permitAll();
+                    requestMatcherRegistry.requestMatchers(routeMatcher(ERouteAccess.USER)).hasAnyRole(ERole.USER.toString(), ERole.ADMIN.toString());
+                    requestMatcherRegistry.requestMatchers(routeMatcher(ERouteAccess.ADMIN)).hasRole(ERole.ADMIN.toString());
                     requestMatcherRegistry.anyRequest().authenticated();
                     })
 
@@ -65,8 +71,12 @@ public class SecurityConfig {
                                 .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
 
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, new JwtAuthenticationProvider(customUserDetailService)), LogoutFilter.class)
-                .addFilterBefore(new JwtExceptionFilter(), JwtAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, new JwtAuthenticationProvider(customUserDetailService), routeTable), LogoutFilter.class)
+                .addFilterBefore(new JwtExceptionFilter(routeTable), JwtAuthenticationFilter.class)
                 .getOrBuild();
     }
+
+    private RequestMatcher routeMatcher(ERouteAccess access) {
+        return request -> routeTable.classify(request) == access;
+    }
 }
@@ -1,9 +1,9 @@
 package com.example.withpeace.config;
 
 
-import com.example.withpeace.constant.Constant;
 import com.example.withpeace.intercepter.UserIdInterceptor;
 import com.example.withpeace.intercepter.UserIdResolver;
+import com.example.withpeace.security.RouteTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -21,6 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
     private final UserIdResolver userIdResolver;
+    private final RouteTable routeTable;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -30,9 +31,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new UserIdInterceptor())
-                .addPathPatterns("/**")
-                .excludePathPatterns(Constant.NO_NEED_AUTH_URLS);
+        registry.addInterceptor(new UserIdInterceptor(routeTable))
+                .addPathPatterns("/**");
     }
 
     @Override
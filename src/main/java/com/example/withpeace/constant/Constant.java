@@ -1,7 +1,5 @@
 package com.example.withpeace.constant;
 
-import java.util.List;
-
 public class Constant {
     public static final String USER_ID_CLAIM_NAME = "uid";
     public static final String USER_ROLE_CLAIM_NAME = "rol";
@@ -10,39 +8,37 @@ public class Constant {
     public static final String REAUTHORIZATION = "refreshToken";
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
-    public static final List<String> NO_NEED_AUTH_URLS = List.of(
-            "/api/v1/auth/google",
-            "/api/v1/auth/refresh",
-            "/api/v1/users/profile/nickname/check",
-            "/api/v1/users/recovery",
+
+    /*
+     * 경로 분류 테이블 (RouteTable 에서 한 번만 컴파일하여 JWT 필터, USER_ID 인터셉터, SecurityConfig, 메트릭 태그에서 공유)
+     * - "/**" 로 끝나면 접두사 경로, 그 외에는 정확히 일치하는 경로
+     * - 정확한 경로가 접두사보다 우선, 접두사끼리는 가장 긴 경로 우선, 같은 경로는 먼저 선언된 분류 우선
+     */
+    public static final String[] PUBLIC_ROUTES = {
+            "/api/v1/auth/google", "/api/v1/auth/apple", "/api/v1/auth/refresh",
+            "/api/v1/users/profile/nickname/check", "/api/v1/users/recovery",
             "/api/v1/app/check/android",
-            "/v3/api-docs",
-            "/swagger-ui/index.html",
-            "/swagger-ui/swagger-ui.css",
-            "/swagger-ui/favicon-32x32.png",
-            "/v3/api-docs/swagger-config",
-            "/swagger-ui/swagger-ui-bundle.js",
-            "/swagger-ui/swagger-initializer.js",
-            "/swagger-ui/swagger-ui-standalone-preset.js",
-            "/swagger-ui/index.css",
-            "/favicon.ico",
-            "/actuator/prometheus"
-    );
+            "/v3/api-docs", "/v3/api-docs/swagger-config",
+            "/swagger-ui/index.html", "/swagger-ui/index.css", "/swagger-ui/swagger-ui.css",
+            "/swagger-ui/favicon-32x32.png", "/swagger-ui/swagger-ui-bundle.js",
+            "/swagger-ui/swagger-initializer.js", "/swagger-ui/swagger-ui-standalone-preset.js",
+            "/favicon.ico", "/actuator/prometheus",
+            "/guest/**"
+    };
 
-    public static final String[] PUBLIC_URLS = {
+    public static final String[] PERMIT_ROUTES = {
             "/actuator/**",
-            "/v3/api-docs/**", "/favicon.ico", "/configuration/**",
-            "/swagger*/**", "/webjars/**", "/swagger-ui.html", "/swagger-ui/**",
-            "api/v1/auth/**", "api/v1/users/profile/nickname/check",
-            "api/v1/users/recovery", "/api/v1/app/check/android"
+            "/v3/api-docs/**", "/configuration/**", "/webjars/**",
+            "/swagger-ui.html", "/swagger-ui/**", "/swagger-resources/**",
+            "/api/v1/auth/**"
     };
 
-    public static final String[] USER_URLS = {
-            "api/v1/users/**", "/api/v1/posts/register"
+    public static final String[] USER_ROUTES = {
+            "/api/v1/users/**", "/api/v1/posts/register"
     };
 
-    public static final String[] ADMIN_URLS = {
-            "api/v1/admin/**", "/api/v1/app/setForceUpdateVersion/android",
+    public static final String[] ADMIN_ROUTES = {
+            "/api/v1/admin/**", "/api/v1/app/setForceUpdateVersion/android",
             "/api/v1/policies/refresh"
     };
 }
@@ -0,0 +1,24 @@
+package com.example.withpeace.controller;
+
+import com.example.withpeace.component.ScheduledJobRunner;
+import com.example.withpeace.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/admin")
+public class AdminController {
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Operation(summary = "스케줄 작업 현황 조회 (관리자)",
+            description = "작업별 마지막 실행 상태, 소요 시간, 실행 노드와 현재 잠금 보유자를 조회합니다.", tags = {"Admin"})
+    @GetMapping("/jobs")
+    public ResponseDto<?> getJobs() {
+        return ResponseDto.ok(scheduledJobRunner.getLastRuns());
+    }
+}
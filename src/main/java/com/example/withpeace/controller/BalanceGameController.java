@@ -8,7 +8,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,4 +33,10 @@ public class BalanceGameController {
                                                   @RequestBody @Valid BalanceGameChoiceRequestDto balanceGameChoiceRequestDto) {
         return ResponseDto.ok(balanceGameService.selectBalanceGameChoice(userId, gameId, balanceGameChoiceRequestDto.choice()));
     }
+
+    @Operation(summary = "밸런스게임 선택 현황 구독", description = "오늘의 밸런스게임 선택 수 변경을 SSE 로 전송합니다.", tags = {"BalanceGame"})
+    @GetMapping(value = "/{gameId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTally(@PathVariable Long gameId) {
+        return balanceGameService.subscribeTally(gameId);
+    }
 }
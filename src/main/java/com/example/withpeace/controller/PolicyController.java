@@ -1,6 +1,8 @@
 package com.example.withpeace.controller;
 
 import com.example.withpeace.annotation.UserId;
+import com.example.withpeace.component.ScheduledJobRunner;
+import com.example.withpeace.component.Scheduler;
 import com.example.withpeace.dto.ResponseDto;
 import com.example.withpeace.dto.response.PolicyListResponseDto;
 import com.example.withpeace.dto.response.PolicySearchResponseDto;
@@ -23,12 +25,15 @@ import java.util.List;
 public class PolicyController {
 
     private final PolicyService policyService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     @Operation(summary = "정책 데이터 갱신 (관리자)",
             description = "청년 정책 데이터를 최신 정보로 갱신합니다. 관리자만 요청할 수 있습니다.", tags = {"Policy"})
     @PostMapping("/refresh")
     public ResponseDto<?> refreshPolicy(@UserId Long userId) {
-        policyService.refreshYouthPolicies();
+        // 스케줄 실행과 같은 잠금 사용 (다른 서버에서 갱신 중이면 예외, api 서버는 worker 서버에 실행 요청)
+        scheduledJobRunner.runOnWorker(Scheduler.REFRESH_YOUTH_POLICIES, Scheduler.REFRESH_YOUTH_POLICIES_LEASE,
+                policyService::refreshYouthPolicies);
         return ResponseDto.ok(true);
     }
 
@@ -65,6 +70,16 @@ public class PolicyController {
         return ResponseDto.ok(policyService.getFavoritePolicy(userId));
     }
 
+    @Operation(summary = "찜한 정책 페이지 조회",
+            description = "사용자가 찜한 정책 목록을 최근 찜한 순으로 커서 기반 페이지 조회합니다. " +
+                    "응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.", tags = {"Policy"})
+    @GetMapping("/favorites/page")
+    public ResponseDto<?> getFavoritePolicyPage(@UserId Long userId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") @Valid @NotNull @Min(1) @Max(50) Integer size) {
+        return ResponseDto.ok(policyService.getFavoritePolicyPage(userId, cursor, size));
+    }
+
     @Operation(summary = "정책 찜하기 취소", description = "찜한 정책을 찜 목록에서 제거합니다.", tags = {"Policy"})
     @DeleteMapping("/{policyId}/favorites")
     public  ResponseDto<?> deleteFavoritePolicy(@UserId Long userId, @PathVariable String policyId) {
@@ -3,14 +3,19 @@ package com.example.withpeace.controller;
 import com.example.withpeace.annotation.UserId;
 import com.example.withpeace.dto.ResponseDto;
 import com.example.withpeace.dto.request.CommentRegisterRequestDto;
+import com.example.withpeace.dto.request.PostImageConfirmRequestDto;
+import com.example.withpeace.dto.request.PostImageUploadUrlRequestDto;
 import com.example.withpeace.dto.request.PostRegisterRequestDto;
 import com.example.withpeace.dto.request.ReportRegisterRequestDto;
+import com.example.withpeace.dto.response.CommentPageResponseDto;
+import com.example.withpeace.dto.response.ImageUploadUrlResponseDto;
 import com.example.withpeace.dto.response.PostDetailResponseDto;
 import com.example.withpeace.dto.response.PostRegisterResponseDto;
 import com.example.withpeace.service.PostService;
 import com.example.withpeace.type.ETopic;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -66,6 +72,21 @@ public class PostController {
         return ResponseDto.ok(new PostRegisterResponseDto(postId));
     }
 
+    @Operation(summary = "게시글 이미지 업로드 URL 발급", description = "게시글 이미지를 GCS 에 직접 업로드할 수 있는 서명 URL 을 발급합니다. 이미 저장된 이미지는 URL 없이 응답합니다.", tags = {"Post"})
+    @PostMapping("/{postId}/images/upload-urls")
+    public ResponseDto<List<ImageUploadUrlResponseDto>> issueImageUploadUrls(@UserId Long userId, @PathVariable Long postId,
+                                                                            @RequestBody List<@Valid PostImageUploadUrlRequestDto> images) {
+        return ResponseDto.ok(postService.issueImageUploadUrls(userId, postId, images));
+    }
+
+    @Operation(summary = "게시글 이미지 업로드 확인", description = "직접 업로드한 이미지를 확인하고 게시글 이미지 목록을 요청 순서대로 반영합니다.", tags = {"Post"})
+    @PutMapping("/{postId}/images")
+    public ResponseDto<List<String>> confirmImages(@UserId Long userId, @PathVariable Long postId,
+                                                  @Valid @RequestBody PostImageConfirmRequestDto request) {
+        return ResponseDto.ok(postService.confirmImages(userId, postId, request.contentHashes(),
+                request.blobNames() == null ? Map.of() : request.blobNames()));
+    }
+
     @Operation(summary = "게시글 삭제", description = "특정 게시글을 삭제합니다.", tags = {"Post"})
     @DeleteMapping("/{postId}")
     public ResponseDto<?> deletePost(@UserId Long userId, @PathVariable Long postId) {
@@ -86,6 +107,16 @@ public class PostController {
         return ResponseDto.ok(postService.registerComment(userId, postId, content.content()));
     }
 
+    @Operation(summary = "댓글 페이지 조회",
+            description = "게시글 댓글을 작성 순으로 커서 기반 페이지 조회합니다. " +
+                    "응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.", tags = {"Post"})
+    @GetMapping("/{postId}/comments")
+    public ResponseDto<CommentPageResponseDto> getCommentPage(@UserId Long userId, @PathVariable Long postId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") @Valid @NotNull @Min(1) @Max(50) Integer size) {
+        return ResponseDto.ok(postService.getCommentPage(postId, cursor, size));
+    }
+
     @Operation(summary = "댓글 신고 (v1)", description = "부적절한 댓글을 신고합니다.", tags = {"Post"})
     @PostMapping("/{commentId}/reportComment")
     public ResponseDto<?> reportComment(@UserId Long userId, @PathVariable Long commentId,
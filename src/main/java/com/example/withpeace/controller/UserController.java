@@ -4,7 +4,9 @@ package com.example.withpeace.controller;
 import com.amazonaws.Response;
 import com.example.withpeace.annotation.UserId;
 import com.example.withpeace.dto.ResponseDto;
+import com.example.withpeace.dto.request.ImageUploadUrlRequestDto;
 import com.example.withpeace.dto.request.NicknameRequestDto;
+import com.example.withpeace.dto.request.ProfileImageConfirmRequestDto;
 import com.example.withpeace.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -67,6 +69,18 @@ public class UserController {
         return ResponseDto.ok(userService.updateProfileImage(userId, file));
     }
 
+    @Operation(summary = "프로필 이미지 업로드 URL 발급", description = "GCS 에 직접 업로드할 수 있는 서명 URL 을 발급합니다. 업로드 후 확인 API 를 호출해야 반영됩니다.", tags = {"User"})
+    @PostMapping("profile/image/upload-url")
+    public ResponseDto<?> issueProfileImageUploadUrl(@UserId Long userId, @Valid @RequestBody ImageUploadUrlRequestDto request) {
+        return ResponseDto.ok(userService.issueProfileImageUploadUrl(userId, request.contentType()));
+    }
+
+    @Operation(summary = "프로필 이미지 업로드 확인", description = "서명 URL 로 업로드한 이미지를 프로필 이미지로 반영합니다.", tags = {"User"})
+    @PatchMapping("profile/image/confirm")
+    public ResponseDto<?> confirmProfileImage(@UserId Long userId, @Valid @RequestBody ProfileImageConfirmRequestDto request) {
+        return ResponseDto.ok(userService.confirmProfileImage(userId, request.blobName()));
+    }
+
     @Operation(summary = "프로필 이미지 삭제", description = "프로필 이미지를 기본 이미지로 변경합니다.", tags = {"User"})
     @DeleteMapping("profile/image")
     public ResponseDto<?> deleteProfileImage(@UserId Long userId) {
@@ -46,6 +46,9 @@ public class BalanceGameChoice {
     @Enumerated(EnumType.STRING)
     private EChoice choice;
 
+    @Column(name = "seq")
+    private Long seq; // 투표 순서 (Redis 전역 INCR), 비동기 저장 시 이전 투표가 최신 투표를 덮어쓰지 않도록 비교
+
     @Column(name = "create_date", nullable = false)
     private LocalDateTime createDate;
 
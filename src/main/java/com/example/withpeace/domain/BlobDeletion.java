@@ -0,0 +1,64 @@
+package com.example.withpeace.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * GCS blob 삭제 대기열 (outbox)
+ * - 이미지 행 변경과 같은 트랜잭션에서 기록되어 롤백 시 함께 취소됨
+ * - BlobDeletionWorker 가 주기적으로 모아 배치 삭제, 실패 시 attempts 증가 후 nextAttemptAt 까지 대기
+ * - 게시글 이미지는 postId 를 함께 기록하여 같은 이름을 다시 등록할 때 예약을 취소할 수 있음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@Table(name = "blob_deletions",
+        indexes = {
+                @Index(name = "idx_blob_deletions_next_attempt_at", columnList = "next_attempt_at"),
+                @Index(name = "idx_blob_deletions_post_id", columnList = "post_id")
+        }
+)
+public class BlobDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false, unique = true)
+    private Long id;
+
+    @Column(name = "blob_name", nullable = false, length = 1024)
+    private String blobName;
+
+    @Column(name = "post_id")
+    private Long postId; // 게시글 이미지가 아니면 null
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    public BlobDeletion(String blobName, Long postId) {
+        this.blobName = blobName;
+        this.postId = postId;
+        this.attempts = 0;
+        this.createDate = LocalDateTime.now();
+        this.nextAttemptAt = this.createDate;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
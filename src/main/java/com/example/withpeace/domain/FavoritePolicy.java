@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicUpdate
 @Table(name = "favorite_policies",
-        uniqueConstraints = @UniqueConstraint(name = "uq_user_policy", columnNames = {"user_id", "policy_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uq_user_policy", columnNames = {"user_id", "policy_id"}),
+        indexes = {
+                @Index(name = "idx_user_create_date", columnList = "user_id, create_date")
+        })
 public class FavoritePolicy {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,6 +9,10 @@ import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,9 +32,36 @@ public class Image {
     @Column(name = "url", nullable = false)
     private String url;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl; // 256px 축소본 (목록용, 없으면 원본 사용)
+
+    @Column(name = "medium_url")
+    private String mediumUrl; // 720px 축소본
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 원본 SHA-256 (GCS blob 이름), 이전 방식으로 저장된 이미지는 null
+
+    @Column(name = "position")
+    private Integer position; // 게시글 내 이미지 순서
+
     @Builder
-    public Image(Post post, String url) {
+    public Image(Post post, String url, String thumbnailUrl, String mediumUrl, String contentHash, Integer position) {
         this.post = post;
         this.url = url;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.contentHash = contentHash;
+        this.position = position;
+    }
+
+    public void updatePosition(int position) {
+        if (this.position == null || this.position != position) {
+            this.position = position;
+        }
+    }
+
+    // GCS 에 저장된 모든 파일 URL (원본 + 축소본)
+    public List<String> getAllUrls() {
+        return Stream.of(url, thumbnailUrl, mediumUrl).filter(Objects::nonNull).toList();
     }
 }
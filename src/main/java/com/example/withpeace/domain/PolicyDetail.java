@@ -0,0 +1,190 @@
+package com.example.withpeace.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.Objects;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@Table(name = "policy_details")
+public class PolicyDetail { // 정책 상세 정보 (정책 상세 조회에서만 사용)
+    @Id
+    @Column(name = "policy_id", nullable = false, unique = true)
+    private String policyId; // 정책 id (policies.id 와 동일)
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "policy_id", referencedColumnName = "id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Policy policy;
+
+    @Column(name = "operating_period", length = 512)
+    private String operatingPeriod; // 운영기간
+
+    @Column(name = "application_details", columnDefinition = "TEXT")
+    private String applicationDetails; // 신청 세부 사항
+
+    @Column(name = "residence", columnDefinition = "TEXT")
+    private String residence; // 거주지 (시/군/구)
+
+    @Column(name = "income", length = 512)
+    private String income; // 소득 조건
+
+    @Column(name = "education", length = 512)
+    private String education; // 학력 요건
+
+    @Column(name = "specialization")
+    private String specialization; // 전공 요건
+
+    @Column(name = "additional_notes", columnDefinition = "TEXT")
+    private String additionalNotes; // 추가 사항
+
+    @Column(name = "participation_restrictions", columnDefinition = "TEXT")
+    private String participationRestrictions; // 참여 제한 사항
+
+    @Column(name = "application_process", columnDefinition = "TEXT")
+    private String applicationProcess; // 신청 절차
+
+    @Column(name = "screening_and_announcement", columnDefinition = "TEXT")
+    private String screeningAndAnnouncement; // 심사 발표 내용
+
+    @Column(name = "application_site", columnDefinition = "TEXT")
+    private String applicationSite; // 신청 사이트 주소
+
+    @Column(name = "submission_documents", columnDefinition = "TEXT")
+    private String submissionDocuments; // 제출 서류 내용
+
+    @Column(name = "etc", columnDefinition = "TEXT")
+    private String etc; // 기타 유익 정보
+
+    @Column(name = "managing_institution", length = 512)
+    private String managingInstitution; // 주관 기관
+
+    @Column(name = "operating_organization", length = 512)
+    private String operatingOrganization; // 운영 기관
+
+    @Column(name = "reference_site1", length = 512)
+    private String referenceSite1; // 사업관련 참고 사이트1
+
+    @Column(name = "reference_site2", length = 512)
+    private String referenceSite2; // 사업관련 참고 사이트2
+
+    @Builder
+    public PolicyDetail(Policy policy, String operatingPeriod, String applicationDetails, String residence,
+                        String income, String education, String specialization, String additionalNotes,
+                        String participationRestrictions, String applicationProcess, String screeningAndAnnouncement,
+                        String applicationSite, String submissionDocuments, String etc, String managingInstitution,
+                        String operatingOrganization, String referenceSite1, String referenceSite2) {
+        this.policy = policy;
+        this.operatingPeriod = operatingPeriod;
+        this.applicationDetails = applicationDetails;
+        this.residence = residence;
+        this.income = income;
+        this.education = education;
+        this.specialization = specialization;
+        this.additionalNotes = additionalNotes;
+        this.participationRestrictions = participationRestrictions;
+        this.applicationProcess = applicationProcess;
+        this.screeningAndAnnouncement = screeningAndAnnouncement;
+        this.applicationSite = applicationSite;
+        this.submissionDocuments = submissionDocuments;
+        this.etc = etc;
+        this.managingInstitution = managingInstitution;
+        this.operatingOrganization = operatingOrganization;
+        this.referenceSite1 = referenceSite1;
+        this.referenceSite2 = referenceSite2;
+    }
+
+    // 동기화 시 관리 중인(영속) 정책 엔티티에 연결된 상세 정보 생성
+    public PolicyDetail withPolicy(Policy policy) {
+        PolicyDetail detail = new PolicyDetail();
+        detail.policy = policy;
+        detail.updateAllFieldsFrom(this);
+        return detail;
+    }
+
+    // JPA 변경 감지(Dirty Checking) 활용하여 기존 데이터 업데이트
+    public boolean updateAllFieldsFrom(PolicyDetail updatedDetail) {
+        boolean isUpdated = false;
+
+        if (!Objects.equals(this.operatingPeriod, updatedDetail.getOperatingPeriod())) {
+            this.operatingPeriod = updatedDetail.getOperatingPeriod();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.applicationDetails, updatedDetail.getApplicationDetails())) {
+            this.applicationDetails = updatedDetail.getApplicationDetails();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.residence, updatedDetail.getResidence())) {
+            this.residence = updatedDetail.getResidence();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.income, updatedDetail.getIncome())) {
+            this.income = updatedDetail.getIncome();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.education, updatedDetail.getEducation())) {
+            this.education = updatedDetail.getEducation();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.specialization, updatedDetail.getSpecialization())) {
+            this.specialization = updatedDetail.getSpecialization();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.additionalNotes, updatedDetail.getAdditionalNotes())) {
+            this.additionalNotes = updatedDetail.getAdditionalNotes();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.participationRestrictions, updatedDetail.getParticipationRestrictions())) {
+            this.participationRestrictions = updatedDetail.getParticipationRestrictions();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.applicationProcess, updatedDetail.getApplicationProcess())) {
+            this.applicationProcess = updatedDetail.getApplicationProcess();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.screeningAndAnnouncement, updatedDetail.getScreeningAndAnnouncement())) {
+            this.screeningAndAnnouncement = updatedDetail.getScreeningAndAnnouncement();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.applicationSite, updatedDetail.getApplicationSite())) {
+            this.applicationSite = updatedDetail.getApplicationSite();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.submissionDocuments, updatedDetail.getSubmissionDocuments())) {
+            this.submissionDocuments = updatedDetail.getSubmissionDocuments();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.etc, updatedDetail.getEtc())) {
+            this.etc = updatedDetail.getEtc();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.managingInstitution, updatedDetail.getManagingInstitution())) {
+            this.managingInstitution = updatedDetail.getManagingInstitution();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.operatingOrganization, updatedDetail.getOperatingOrganization())) {
+            this.operatingOrganization = updatedDetail.getOperatingOrganization();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.referenceSite1, updatedDetail.getReferenceSite1())) {
+            this.referenceSite1 = updatedDetail.getReferenceSite1();
+            isUpdated = true;
+        }
+        if (!Objects.equals(this.referenceSite2, updatedDetail.getReferenceSite2())) {
+            this.referenceSite2 = updatedDetail.getReferenceSite2();
+            isUpdated = true;
+        }
+
+        return isUpdated; // 변경이 발생했는지 여부 반환
+    }
+}
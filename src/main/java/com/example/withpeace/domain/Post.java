@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicUpdate
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_type_create_date", columnList = "type, create_date")
+        })
 public class Post {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -62,9 +65,4 @@ public class Post {
     public void setContent(String content) { this.content = content; }
     public void setType(ETopic type) { this.type = type; }
 
-    public void increaseCommentCount() { this.commentCount++; }
-    public void decreaseCommentCount() { this.commentCount--; }
-
-    public void incrementViewCount() { this.viewCount++; }
-
 }
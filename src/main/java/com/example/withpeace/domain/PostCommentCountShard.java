@@ -0,0 +1,42 @@
+package com.example.withpeace.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 게시글 댓글 수 증감분 샤드 (게시글당 최대 shard 개 행)
+ * - 댓글 등록 트랜잭션은 임의의 샤드 행만 증가시켜 posts 행에 쓰기 잠금을 걸지 않음
+ * - PostCommentCounter 가 주기적으로 증감분을 posts.comment_count 로 옮김
+ * - 테이블 생성용 매핑이며 읽기/쓰기는 PostCommentCounter 의 SQL 로만 수행
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(PostCommentCountShard.Key.class)
+@Table(name = "post_comment_count_shards")
+public class PostCommentCountShard {
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Id
+    @Column(name = "shard", nullable = false)
+    private Integer shard;
+
+    @Column(name = "delta", nullable = false)
+    private Long delta;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long postId;
+        private Integer shard;
+    }
+}
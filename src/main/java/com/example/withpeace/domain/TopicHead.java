@@ -0,0 +1,31 @@
+package com.example.withpeace.domain;
+
+import com.example.withpeace.type.ETopic;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주제별 최신 게시글 포인터 (주제당 한 행)
+ * - 게시글 등록/삭제/주제 변경과 같은 트랜잭션에서 TopicHeadIndex 가 갱신
+ * - 최신 기준은 (create_date, id) 내림차순이며 해당 주제에 게시글이 없으면 post_id 는 null
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "topic_heads")
+public class TopicHead {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "topic", nullable = false, updatable = false, length = 20)
+    private ETopic topic;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "post_create_date")
+    private LocalDateTime postCreateDate;
+}
@@ -0,0 +1,9 @@
+package com.example.withpeace.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record ImageUploadUrlRequestDto(
+        @NotBlank @JsonProperty("contentType") @Schema(description = "이미지 Content-Type", example = "image/jpeg") String contentType){
+}
@@ -0,0 +1,16 @@
+package com.example.withpeace.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+import java.util.Map;
+
+public record PostImageConfirmRequestDto(
+        @NotNull @JsonProperty("contentHashes") @Schema(description = "최종 이미지 SHA-256 목록 (표시 순서)")
+        List<@Pattern(regexp = "^[0-9a-f]{64}$") String> contentHashes,
+        @JsonProperty("blobNames") @Schema(description = "새로 업로드한 이미지의 SHA-256 -> 업로드 URL 발급 시 받은 blob 이름")
+        Map<String, String> blobNames){
+}
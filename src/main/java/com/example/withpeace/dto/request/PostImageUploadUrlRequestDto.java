@@ -0,0 +1,11 @@
+package com.example.withpeace.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record PostImageUploadUrlRequestDto(
+        @NotBlank @Pattern(regexp = "^[0-9a-f]{64}$") @JsonProperty("contentHash") @Schema(description = "이미지 SHA-256 (hex)") String contentHash,
+        @NotBlank @JsonProperty("contentType") @Schema(description = "이미지 Content-Type", example = "image/jpeg") String contentType){
+}
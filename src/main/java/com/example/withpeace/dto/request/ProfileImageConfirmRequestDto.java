@@ -0,0 +1,9 @@
+package com.example.withpeace.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record ProfileImageConfirmRequestDto(
+        @NotBlank @JsonProperty("blobName") @Schema(description = "업로드 URL 발급 시 받은 blob 이름") String blobName){
+}
@@ -35,4 +35,15 @@ public record BalanceGameResponseDto(
         return new BalanceGameResponseDto(gameId, date, title, optionA, optionB, userChoice,
                 isActive, optionACount, optionBCount, hasPrevious, hasNext, comments);
     }
+
+    // 공통 응답(캐시)에 요청 사용자의 선택 반영
+    public BalanceGameResponseDto withUserChoice(EChoice userChoice) {
+        return new BalanceGameResponseDto(gameId, date, title, optionA, optionB, userChoice,
+                isActive, optionACount, optionBCount, hasPrevious, hasNext, comments);
+    }
+
+    public BalanceGameResponseDto withCounts(long optionACount, long optionBCount) {
+        return new BalanceGameResponseDto(gameId, date, title, optionA, optionB, userChoice,
+                isActive, optionACount, optionBCount, hasPrevious, hasNext, comments);
+    }
 }
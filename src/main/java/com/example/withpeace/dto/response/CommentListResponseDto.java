@@ -1,5 +1,7 @@
 package com.example.withpeace.dto.response;
 
+import com.example.withpeace.domain.Comment;
+import com.example.withpeace.util.TimeFormatter;
 import lombok.Builder;
 
 @Builder
@@ -10,4 +12,16 @@ public record CommentListResponseDto(
         String profileImageUrl,
         String content,
         String createDate) {
+
+    // 작성자가 함께 조회된(fetch join) 댓글로 생성
+    public static CommentListResponseDto from(Comment comment) {
+        return CommentListResponseDto.builder()
+                .commentId(comment.getId())
+                .userId(comment.getWriter().getId())
+                .nickname(comment.getWriter().getNickname())
+                .profileImageUrl(comment.getWriter().getProfileImage())
+                .content(comment.getContent())
+                .createDate(TimeFormatter.format(comment.getCreateDate()))
+                .build();
+    }
 }
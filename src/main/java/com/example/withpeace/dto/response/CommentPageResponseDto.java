@@ -0,0 +1,16 @@
+package com.example.withpeace.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CommentPageResponseDto(
+        List<CommentListResponseDto> comments,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static CommentPageResponseDto of(List<CommentListResponseDto> comments, String nextCursor, boolean hasNext) {
+        return new CommentPageResponseDto(comments, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.withpeace.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record FavoritePolicyPageResponseDto(
+        List<PolicyListResponseDto> policies,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static FavoritePolicyPageResponseDto of(List<PolicyListResponseDto> policies, String nextCursor, boolean hasNext) {
+        return new FavoritePolicyPageResponseDto(policies, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.withpeace.dto.response;
+
+import com.example.withpeace.component.SignedUploadUrlIssuer;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record ImageUploadUrlResponseDto(String contentHash, boolean alreadyUploaded, String blobName,
+                                        String uploadUrl, Map<String, String> headers, String expiresAt) {
+
+    public static ImageUploadUrlResponseDto from(String contentHash, SignedUploadUrlIssuer.SignedUpload signedUpload) {
+        return ImageUploadUrlResponseDto.builder()
+                .contentHash(contentHash)
+                .alreadyUploaded(false)
+                .blobName(signedUpload.blobName())
+                .uploadUrl(signedUpload.uploadUrl())
+                .headers(signedUpload.headers())
+                .expiresAt(signedUpload.expiresAt().toString())
+                .build();
+    }
+
+    // 게시글에 이미 같은 내용의 이미지가 있어 업로드가 필요 없는 경우
+    public static ImageUploadUrlResponseDto alreadyUploaded(String contentHash) {
+        return ImageUploadUrlResponseDto.builder()
+                .contentHash(contentHash)
+                .alreadyUploaded(true)
+                .build();
+    }
+}
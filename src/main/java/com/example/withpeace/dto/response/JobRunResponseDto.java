@@ -0,0 +1,28 @@
+package com.example.withpeace.dto.response;
+
+import java.util.Map;
+
+public record JobRunResponseDto(
+        String jobName,
+        String status, // RUNNING, SUCCEEDED, FAILED, LEASE_LOST
+        String owner, // 마지막 실행 노드 (pid@hostname)
+        Long fencingToken,
+        String startedAt,
+        String finishedAt,
+        Long durationMs,
+        String error,
+        String lockHolder // 현재 잠금 보유자 ("소유자:토큰"), 없으면 null
+) {
+    public static JobRunResponseDto of(String jobName, Map<String, String> run, String lockHolder) {
+        return new JobRunResponseDto(
+                jobName,
+                run.get("status"),
+                run.get("owner"),
+                run.containsKey("fencingToken") ? Long.valueOf(run.get("fencingToken")) : null,
+                run.get("startedAt"),
+                run.get("finishedAt"),
+                run.containsKey("durationMs") ? Long.valueOf(run.get("durationMs")) : null,
+                run.get("error"),
+                lockHolder);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.withpeace.dto.response;
 
 import com.example.withpeace.domain.Policy;
+import com.example.withpeace.domain.PolicyDetail;
 import com.example.withpeace.type.EPolicyClassification;
 import lombok.Builder;
 
@@ -35,31 +36,32 @@ public record PolicyDetailResponseDto(
 
         boolean isFavorite
 ) {
-    public static PolicyDetailResponseDto from(Policy policy, boolean isFavorite) {
+    public static PolicyDetailResponseDto from(PolicyDetail detail, boolean isFavorite) {
+        Policy policy = detail.getPolicy();
         return PolicyDetailResponseDto.builder()
                 .id(policy.getId())
                 .title(defaultIfNull(policy.getTitle()))
                 .introduce(defaultIfNull(policy.getIntroduce()))
                 .classification(policy.getClassification())
-                .applicationDetails(defaultIfNull(policy.getApplicationDetails()))
+                .applicationDetails(defaultIfNull(detail.getApplicationDetails()))
                 .applicationPeriodStatus(policy.getApplicationPeriodStatus())
-                .operationPeriod(policy.getOperatingPeriod())
+                .operationPeriod(detail.getOperatingPeriod())
                 .ageInfo(defaultIfNull(policy.getAge()))
-                .residence(defaultIfNull(policy.getResidence()))
-                .income(defaultIfNull(policy.getIncome()))
-                .education(defaultIfNull(policy.getEducation()))
-                .specialization(defaultIfNull(policy.getSpecialization()))
-                .additionalNotes(defaultIfNull(policy.getAdditionalNotes()))
-                .participationRestrictions(defaultIfNull(policy.getParticipationRestrictions()))
-                .applicationProcess(defaultIfNull(policy.getApplicationProcess()))
-                .screeningAndAnnouncement(defaultIfNull(policy.getScreeningAndAnnouncement()))
-                .applicationSite(defaultIfNull(policy.getApplicationSite()))
-                .submissionDocuments(defaultIfNull(policy.getSubmissionDocuments()))
-                .etc(defaultIfNull(policy.getEtc()))
-                .managingInstitution(defaultIfNull(policy.getManagingInstitution()))
-                .operatingOrganization(defaultIfNull(policy.getOperatingOrganization()))
-                .referenceSite1(defaultIfNull(policy.getReferenceSite1()))
-                .referenceSite2(defaultIfNull(policy.getReferenceSite2()))
+                .residence(defaultIfNull(detail.getResidence()))
+                .income(defaultIfNull(detail.getIncome()))
+                .education(defaultIfNull(detail.getEducation()))
+                .specialization(defaultIfNull(detail.getSpecialization()))
+                .additionalNotes(defaultIfNull(detail.getAdditionalNotes()))
+                .participationRestrictions(defaultIfNull(detail.getParticipationRestrictions()))
+                .applicationProcess(defaultIfNull(detail.getApplicationProcess()))
+                .screeningAndAnnouncement(defaultIfNull(detail.getScreeningAndAnnouncement()))
+                .applicationSite(defaultIfNull(detail.getApplicationSite()))
+                .submissionDocuments(defaultIfNull(detail.getSubmissionDocuments()))
+                .etc(defaultIfNull(detail.getEtc()))
+                .managingInstitution(defaultIfNull(detail.getManagingInstitution()))
+                .operatingOrganization(defaultIfNull(detail.getOperatingOrganization()))
+                .referenceSite1(defaultIfNull(detail.getReferenceSite1()))
+                .referenceSite2(defaultIfNull(detail.getReferenceSite2()))
                 .isFavorite(isFavorite)
                 .build();
     }
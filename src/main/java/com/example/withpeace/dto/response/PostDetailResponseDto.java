@@ -16,5 +16,7 @@ public record PostDetailResponseDto(
         ETopic type,
         String createDate,
         List<String> postImageUrls,
-        List<CommentListResponseDto> comments) {
+        List<CommentListResponseDto> comments, // 첫 페이지만 포함, 이후는 댓글 페이지 API 로 조회
+        String commentNextCursor,
+        boolean hasNextComments) {
 }
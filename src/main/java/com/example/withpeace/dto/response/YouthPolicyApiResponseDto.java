@@ -2,6 +2,7 @@ package com.example.withpeace.dto.response;
 
 import com.example.withpeace.config.LegalDongCodeCache;
 import com.example.withpeace.domain.Policy;
+import com.example.withpeace.domain.PolicyDetail;
 import com.example.withpeace.type.EPolicyClassification;
 import com.example.withpeace.type.EPolicyEducation;
 import com.example.withpeace.type.EPolicyRegion;
@@ -55,19 +56,24 @@ public record YouthPolicyApiResponseDto(
         @JsonProperty("refUrlAddr2") String referenceSite2 // 참고 사이트2
 ) {
 
-        // DTO -> Entity 변환, 법정동 코드 변환
-        public Policy toEntity(LegalDongCodeCache legalDongCodeCache, int sortOrder) {
+        // DTO -> Entity 변환, 법정동 코드 변환 (요약 정보 Policy 를 포함한 상세 정보 PolicyDetail 반환)
+        public PolicyDetail toEntity(LegalDongCodeCache legalDongCodeCache, int sortOrder) {
                 Map<String, Object> regionInfo = legalDongCodeCache.convertRegionInfo(regionCodes); // 정책거주지역코드 변환
 
-                return Policy.builder()
+                Policy policy = Policy.builder()
                         .id(id)
                         .title(convertBlankToNull(title))
                         .introduce(convertBlankToNull(introduce))
                         .region((Set<EPolicyRegion>) regionInfo.get("region")) // 지역 변환
                         .classification(convertClassificationCode(classificationCode)) // 분야 코드 변환
                         .applicationPeriodStatus(convertApplicationPeriodStatus(applicationPeriodCode, applicationPeriod)) // 신청기간상태 변환
-                        .operatingPeriod(convertOperatingPeriod(businessStartDate, businessEndDate, businessEtc)) // 운영기간 변환
                         .age(convertAgeInfo(ageLimitYn, minAge, maxAge)) // 연령 변환
+                        .sortOrder(sortOrder) // 정렬 순서 반영
+                        .build();
+
+                return PolicyDetail.builder()
+                        .policy(policy)
+                        .operatingPeriod(convertOperatingPeriod(businessStartDate, businessEndDate, businessEtc)) // 운영기간 변환
                         .applicationDetails(convertBlankToNull(applicationDetails))
                         .residence((String) regionInfo.get("residence")) // 거주지 변환
                         .income(convertIncomeInfo(minIncome, maxIncome, etcIncome)) // 소득 정보 변환
@@ -84,7 +90,6 @@ public record YouthPolicyApiResponseDto(
                         .operatingOrganization(convertBlankToNull(operatingOrganization))
                         .referenceSite1(convertBlankToNull(referenceSite1))
                         .referenceSite2(convertBlankToNull(referenceSite2))
-                        .sortOrder(sortOrder) // 정렬 순서 반영
                         .build();
         }
 
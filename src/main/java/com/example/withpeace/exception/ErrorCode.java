@@ -22,6 +22,7 @@ public enum ErrorCode {
     ALREADY_SELECTED_CHOICE(40009, HttpStatus.BAD_REQUEST, "이미 선택한 밸런스게임입니다."),
     INVALID_BALANCE_GAME_DATE(40010, HttpStatus.BAD_REQUEST, "참여 가능한 밸런스게임이 아닙니다."),
     INVALID_COMMENT_TYPE(40011, HttpStatus.BAD_REQUEST, "지원하지 않는 댓글 타입입니다."),
+    NOT_UPLOADED_FILE(40012, HttpStatus.BAD_REQUEST, "업로드가 완료되지 않은 파일입니다."),
 
     EXPIRED_TOKEN_ERROR(40100, HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
     INVALID_TOKEN_ERROR(40101, HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
@@ -36,6 +37,7 @@ public enum ErrorCode {
     FILE_UPLOAD_ERROR(42201, HttpStatus.UNPROCESSABLE_ENTITY, "파일 업로드에 실패하였습니다."),
     POST_ALREADY_REPORTED(42202, HttpStatus.UNPROCESSABLE_ENTITY, "이미 신고한 게시글입니다."),
     COMMENT_ALREADY_REPORTED(42203, HttpStatus.UNPROCESSABLE_ENTITY, "이미 신고한 댓글입니다."),
+    JOB_ALREADY_RUNNING(42204, HttpStatus.UNPROCESSABLE_ENTITY, "다른 서버에서 이미 실행 중인 작업입니다."),
 
     ACCESS_DENIED_ERROR(40300, HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
     // Not Found Error
@@ -57,7 +59,10 @@ public enum ErrorCode {
     YOUTH_POLICY_DATA_FETCH_ERROR(50103, HttpStatus.INTERNAL_SERVER_ERROR, "청년 정책 데이터를 Open API에서 가져오는 도중 오류가 발생했습니다."),
     YOUTH_POLICY_PROCESSING_ERROR(50104, HttpStatus.INTERNAL_SERVER_ERROR, "청년 정책 데이터를 처리하는 도중 오류가 발생했습니다."),
     YOUTH_POLICY_SAVE_ERROR(50105, HttpStatus.INTERNAL_SERVER_ERROR, "청년 정책 데이터를 저장하는 도중 오류가 발생했습니다."),
-    YOUTH_POLICY_REGION_LOAD_ERROR(50106, HttpStatus.INTERNAL_SERVER_ERROR, "법정동 코드 데이터를 불러오는 중 오류가 발생했습니다.");
+    YOUTH_POLICY_REGION_LOAD_ERROR(50106, HttpStatus.INTERNAL_SERVER_ERROR, "법정동 코드 데이터를 불러오는 중 오류가 발생했습니다."),
+
+    // Service Unavailable Error
+    TOO_MANY_STREAM_SUBSCRIBERS(50300, HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final Integer code;
     private final HttpStatus httpStatus;
@@ -1,15 +1,24 @@
 package com.example.withpeace.intercepter;
 
+import com.example.withpeace.security.RouteTable;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@RequiredArgsConstructor
 public class UserIdInterceptor implements HandlerInterceptor {
+    private final RouteTable routeTable;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // 인증이 필요 없는 경로는 USER_ID 를 설정하지 않음 (JWT 필터와 같은 분류 사용)
+        if (routeTable.classify(request).skipsAuthentication()) {
+            return HandlerInterceptor.super.preHandle(request, response, handler);
+        }
+
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         request.setAttribute("USER_ID", authentication.getName());
         return HandlerInterceptor.super.preHandle(request, response, handler);
@@ -9,13 +9,26 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BalanceGameChoiceRepository extends JpaRepository<BalanceGameChoice, Long> {
 
-    @Query("SELECT bgc FROM BalanceGameChoice bgc WHERE bgc.game.id IN :gameIds")
-    List<BalanceGameChoice> findByGameIds(List<Long> gameIds);
+    // 지정한 사용자(요청 사용자 + 댓글 작성자)의 게임별 선택만 조회, [0]: game_id, [1]: user_id, [2]: choice
+    @Query("SELECT bgc.game.id, bgc.user.id, bgc.choice FROM BalanceGameChoice bgc " +
+            "WHERE bgc.game.id IN :gameIds AND bgc.user.id IN :userIds")
+    List<Object[]> findChoicesByGameIdsAndUserIdsRaw(List<Long> gameIds, Collection<Long> userIds);
+
+    // 여러 게임의 선택지별 선택 수를 한 번에 조회, [0]: game_id, [1]: choice, [2]: count
+    @Query("SELECT bgc.game.id, bgc.choice, COUNT(bgc) FROM BalanceGameChoice bgc " +
+            "WHERE bgc.game.id IN :gameIds GROUP BY bgc.game.id, bgc.choice")
+    List<Object[]> getChoiceCountsByGameIdsRaw(List<Long> gameIds);
+
+    // 선택 변경 시 집계에서 차감할 이전 선택 조회
+    @Query("SELECT bgc.choice FROM BalanceGameChoice bgc WHERE bgc.game.id = :gameId AND bgc.user.id = :userId")
+    Optional<EChoice> findChoiceByGameIdAndUserId(Long gameId, Long userId);
 
     @Modifying(clearAutomatically = true)
     @Query("UPDATE BalanceGameChoice bgc SET bgc.choice=:choice WHERE bgc.user=:user AND bgc.game=:game")
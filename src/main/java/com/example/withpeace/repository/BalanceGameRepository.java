@@ -1,21 +1,26 @@
 package com.example.withpeace.repository;
 
 import com.example.withpeace.domain.BalanceGame;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BalanceGameRepository extends JpaRepository<BalanceGame, Long> {
 
+    // 목록 화면은 전체 개수를 쓰지 않으므로 count 쿼리 없이 조회
     @Query("SELECT bg FROM BalanceGame bg WHERE bg.gameDate <= :today ORDER BY bg.gameDate DESC")
-    Page<BalanceGame> findByGameDateLessThanEqual(LocalDate today, Pageable pageable);
+    List<BalanceGame> findByGameDateLessThanEqual(LocalDate today, Pageable pageable);
 
-    boolean existsByGameDateLessThan(LocalDate gameDate);
-    boolean existsByGameDateGreaterThan(LocalDate gameDate);
+    // 전체 게임의 가장 이른/늦은 날짜 (이전/다음 게임 존재 여부를 한 번에 판단), [0]: MIN, [1]: MAX
+    @Query("SELECT MIN(bg.gameDate), MAX(bg.gameDate) FROM BalanceGame bg")
+    List<Object[]> findGameDateRange();
+
+    Optional<BalanceGame> findByGameDate(LocalDate gameDate);
 
 }
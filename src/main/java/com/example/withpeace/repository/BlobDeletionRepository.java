@@ -0,0 +1,30 @@
+package com.example.withpeace.repository;
+
+import com.example.withpeace.domain.BlobDeletion;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlobDeletionRepository extends JpaRepository<BlobDeletion, Long> {
+
+    @Query("SELECT b FROM BlobDeletion b WHERE b.nextAttemptAt <= :now ORDER BY b.nextAttemptAt, b.id")
+    List<BlobDeletion> findDue(LocalDateTime now, Pageable pageable);
+
+    // 워커가 처리할 행 잠금 (처리 중 같은 이름의 예약 취소는 커밋까지 대기, 이미 취소된 행은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BlobDeletion b WHERE b.id IN :ids ORDER BY b.id")
+    List<BlobDeletion> findAllByIdForUpdate(Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM BlobDeletion b WHERE b.postId = :postId AND b.blobName IN :blobNames")
+    int deleteByPostIdAndBlobNameIn(Long postId, Collection<String> blobNames);
+}
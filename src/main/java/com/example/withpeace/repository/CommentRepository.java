@@ -1,23 +1,31 @@
 package com.example.withpeace.repository;
 
-import com.example.withpeace.domain.BalanceGame;
 import com.example.withpeace.domain.Comment;
-import com.example.withpeace.domain.Post;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c WHERE c.post = :post")
-    List<Comment> findCommentsByPost(Post post);
+    // 게시글 댓글 페이지 조회 -- start
+    // 작성자를 한 번의 JOIN 으로 함께 조회, (create_date, id) 순 키셋 페이지네이션 (idx_comments_post_create_date)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.writer WHERE c.post.id = :postId " +
+            "ORDER BY c.createDate ASC, c.id ASC")
+    List<Comment> findCommentPageByPostId(Long postId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"writer"})
-    @Query("SELECT c FROM Comment c WHERE c.game = :game")
-    List<Comment> findCommentsWithWriterByBalanceGame(BalanceGame game);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.writer WHERE c.post.id = :postId " +
+            "AND (c.createDate > :cursorCreateDate OR (c.createDate = :cursorCreateDate AND c.id > :cursorId)) " +
+            "ORDER BY c.createDate ASC, c.id ASC")
+    List<Comment> findCommentPageByPostIdAfter(Long postId, LocalDateTime cursorCreateDate, Long cursorId, Pageable pageable);
+    // 게시글 댓글 페이지 조회 -- end
+
+    // 여러 밸런스게임의 댓글을 작성자와 함께 한 번에 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.writer WHERE c.game.id IN :gameIds ORDER BY c.createDate ASC, c.id ASC")
+    List<Comment> findCommentsWithWriterByGameIds(List<Long> gameIds);
 
 }
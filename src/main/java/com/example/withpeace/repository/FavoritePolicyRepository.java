@@ -2,10 +2,13 @@ package com.example.withpeace.repository;
 
 import com.example.withpeace.domain.FavoritePolicy;
 import com.example.withpeace.domain.Policy;
+import com.example.withpeace.type.EPolicyClassification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,6 +17,10 @@ public interface FavoritePolicyRepository extends JpaRepository<FavoritePolicy,
     @Query("SELECT f.policy.id FROM FavoritePolicy f WHERE f.user.id = :userId AND f.policy.id IN :policyIds")
     List<String> findFavoritePolicyIdsByUserIdAndPolicyIds(Long userId, List<String> policyIds);
 
+    // 사용자가 찜한 전체 정책 ID 조회 (찜 ID 캐시 적재용)
+    @Query("SELECT f.policy.id FROM FavoritePolicy f WHERE f.user.id = :userId")
+    List<String> findPolicyIdsByUserId(Long userId);
+
     FavoritePolicy findByUserIdAndPolicyId(Long userId, String policyId);
 
     @Query("SELECT f.policy FROM FavoritePolicy f WHERE f.user.id = :userId ORDER BY f.createDate DESC")
@@ -23,4 +30,34 @@ public interface FavoritePolicyRepository extends JpaRepository<FavoritePolicy,
     boolean existsByUserIdAndPolicyId(Long userId, String policyId);
 
     List<FavoritePolicy> findByUserId(Long userId);
+
+    // 찜한 정책 목록 페이지 조회 -- start
+    // 목록 표시에 필요한 컬럼만 조회 (상세 TEXT 컬럼 제외), (create_date, id) 역순 키셋 페이지네이션
+    @Query("SELECT f.id AS favoriteId, f.createDate AS createDate, p.id AS id, p.title AS title, " +
+            "p.introduce AS introduce, p.classification AS classification, p.age AS age, " +
+            "p.applicationPeriodStatus AS applicationPeriodStatus " +
+            "FROM FavoritePolicy f JOIN f.policy p WHERE f.user.id = :userId " +
+            "ORDER BY f.createDate DESC, f.id DESC")
+    List<FavoritePolicySummary> findFavoritePolicySummaries(Long userId, Pageable pageable);
+
+    @Query("SELECT f.id AS favoriteId, f.createDate AS createDate, p.id AS id, p.title AS title, " +
+            "p.introduce AS introduce, p.classification AS classification, p.age AS age, " +
+            "p.applicationPeriodStatus AS applicationPeriodStatus " +
+            "FROM FavoritePolicy f JOIN f.policy p WHERE f.user.id = :userId " +
+            "AND (f.createDate < :cursorCreateDate OR (f.createDate = :cursorCreateDate AND f.id < :cursorId)) " +
+            "ORDER BY f.createDate DESC, f.id DESC")
+    List<FavoritePolicySummary> findFavoritePolicySummariesAfter(Long userId, LocalDateTime cursorCreateDate,
+                                                                 Long cursorId, Pageable pageable);
+    // 찜한 정책 목록 페이지 조회 -- end
+
+    interface FavoritePolicySummary {
+        Long getFavoriteId();
+        LocalDateTime getCreateDate();
+        String getId();
+        String getTitle();
+        String getIntroduce();
+        EPolicyClassification getClassification();
+        String getAge();
+        String getApplicationPeriodStatus();
+    }
 }
@@ -8,21 +8,36 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
-    @Query("SELECT i.url FROM Image i WHERE i.post = :post")
+    @Query("SELECT i.url FROM Image i WHERE i.post = :post ORDER BY i.position, i.id")
     List<String> findUrlsByPost(Post post);
 
+    @Query("SELECT i.contentHash FROM Image i WHERE i.post.id = :postId AND i.contentHash IS NOT NULL")
+    Set<String> findContentHashesByPostId(Long postId);
+
     @Query(value = "SELECT i.url FROM images i WHERE i.post_id = :postId ORDER BY i.id ASC LIMIT 1",
             nativeQuery = true)
     Optional<String> findUrlsByPostIdOrderByIdAsc(@Param("postId") Long postId);
 
-    @Query(value = "SELECT i.post_id, MIN(i.url) FROM images i WHERE i.post_id IN :postIds GROUP BY i.post_id", nativeQuery = true)
-    List<Object[]> findFirstImageUrlsByPostIdsRaw(List<Long> postIds);
+    // 게시글별 첫 번째 이미지의 썸네일 URL (썸네일이 없으면 원본 URL)
+    @Query(value = "SELECT t.post_id, t.image_url FROM (" +
+            "SELECT i.post_id, COALESCE(i.thumbnail_url, i.url) AS image_url, " +
+            "ROW_NUMBER() OVER (PARTITION BY i.post_id ORDER BY i.position, i.id) AS rn " +
+            "FROM images i WHERE i.post_id IN :postIds) t WHERE t.rn = 1", nativeQuery = true)
+    List<Object[]> findFirstThumbnailUrlsByPostIdsRaw(List<Long> postIds);
+
+    // blob 삭제 전 사용 중인 파일 확인용, [0]: url, [1]: thumbnail_url, [2]: medium_url
+    @Query("SELECT i.url, i.thumbnailUrl, i.mediumUrl FROM Image i WHERE i.post.id IN :postIds")
+    List<Object[]> findUrlsByPostIdsRaw(Collection<Long> postIds);
+
+    List<Image> findAllByPost(Post post);
 
     boolean existsByPost(Post post);
 
@@ -0,0 +1,16 @@
+package com.example.withpeace.repository;
+
+import com.example.withpeace.domain.PolicyDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PolicyDetailRepository extends JpaRepository<PolicyDetail, String> {
+
+    // 정책 상세 정보 + 요약 정보 한 번에 조회
+    @Query("SELECT d FROM PolicyDetail d JOIN FETCH d.policy WHERE d.policyId = :policyId")
+    Optional<PolicyDetail> findWithPolicyByPolicyId(String policyId);
+}
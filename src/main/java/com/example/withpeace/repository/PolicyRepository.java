@@ -36,6 +36,10 @@ public interface PolicyRepository extends JpaRepository<Policy, String>, JpaSpec
     @EntityGraph(attributePaths = {"region"})
     Optional<Policy> findById(String policyId);
 
+    // 여러 정책의 지역 목록을 한 번에 조회 (policy_id, region)
+    @Query("SELECT p.id, r FROM Policy p JOIN p.region r WHERE p.id IN :policyIds")
+    List<Object[]> findRegionsByPolicyIdsRaw(List<String> policyIds);
+
     // 핫한 정책 필터링 조회 -- start
     // 지역 + 분야 조건으로 필터링된 정책 중 조회수 + 찜수 기준 상위 limit개 조회
     @Query(value = "SELECT p.* FROM policies p " +
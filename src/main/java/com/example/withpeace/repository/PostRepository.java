@@ -6,11 +6,13 @@ import com.example.withpeace.type.ETopic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -18,8 +20,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(value = "SELECT p FROM Post p WHERE p.type=:type ORDER BY p.createDate DESC")
     Page<Post> findByType(ETopic type, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.createDate = " +
-            "(SELECT MAX(p2.createDate) FROM Post p2 WHERE p2.type = p.type) " +
-            "ORDER BY p.type ASC")
+    // 조회수 원자적 증가 (게시글을 읽지 않고 UPDATE 한 번으로 처리)
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
+    int incrementViewCount(Long postId);
+
+    // 주제별 최신 게시글 (topic_heads 포인터로 주제당 한 행, PK 조회)
+    @Query("SELECT p FROM Post p WHERE p.id IN (SELECT h.postId FROM TopicHead h) ORDER BY p.type ASC")
     List<Post> findRecentPostsByType();
+
+    // 주제의 최신 게시글 (idx_posts_type_create_date 역순 조회)
+    Optional<Post> findFirstByTypeOrderByCreateDateDescIdDesc(ETopic type);
 }
@@ -0,0 +1,36 @@
+package com.example.withpeace.repository;
+
+import com.example.withpeace.domain.TopicHead;
+import com.example.withpeace.type.ETopic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TopicHeadRepository extends JpaRepository<TopicHead, ETopic> {
+
+    // 포인터 행을 잠그고 최신 커밋 값 조회 (삭제 후 재조회와 advance 의 순서를 직렬화)
+    @Query(value = "SELECT post_id FROM topic_heads WHERE topic = :topic FOR UPDATE", nativeQuery = true)
+    Optional<Long> findPostIdForUpdate(String topic);
+
+    // 새 게시글이 현재 최신 게시글보다 최신일 때만 포인터 이동 (적용 순서와 무관하게 같은 결과)
+    @Modifying
+    @Query(value = "INSERT INTO topic_heads (topic, post_id, post_create_date) VALUES (:topic, :postId, :createDate) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "post_id = IF(post_id IS NULL OR (VALUES(post_create_date), VALUES(post_id)) > (post_create_date, post_id), " +
+            "VALUES(post_id), post_id), " +
+            "post_create_date = IF(post_id = VALUES(post_id), VALUES(post_create_date), post_create_date)",
+            nativeQuery = true)
+    void advance(String topic, Long postId, LocalDateTime createDate);
+
+    // 포인터를 지정한 게시글로 덮어쓰기 (삭제/재구성 시, 게시글이 없으면 null)
+    @Modifying
+    @Query(value = "INSERT INTO topic_heads (topic, post_id, post_create_date) VALUES (:topic, :postId, :createDate) " +
+            "ON DUPLICATE KEY UPDATE post_id = VALUES(post_id), post_create_date = VALUES(post_create_date)",
+            nativeQuery = true)
+    void overwrite(String topic, Long postId, LocalDateTime createDate);
+}
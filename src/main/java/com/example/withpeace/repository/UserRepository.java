@@ -2,6 +2,8 @@ package com.example.withpeace.repository;
 
 
 import com.example.withpeace.domain.User;
+import com.example.withpeace.type.EPolicyClassification;
+import com.example.withpeace.type.EPolicyRegion;
 import com.example.withpeace.type.EProvider;
 import com.example.withpeace.type.ERole;
 import jakarta.transaction.Transactional;
@@ -11,7 +13,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,15 +31,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.socialId = :socialId AND u.eProvider = :loginProvider AND u.isDeleted = false")
     Optional<User> findBySocialIdAndEProvider(String socialId, EProvider loginProvider);
 
-    @Query("SELECT u FROM User u WHERE u.email = :email")
-    Optional<User> findByEmail(String email);
+    // 인증 캐시 적재용 정책 필터 조회 (User 엔티티 로딩 없이 컬렉션 테이블만 조회)
+    @Query("SELECT r FROM User u JOIN u.regions r WHERE u.id = :userId")
+    List<EPolicyRegion> findRegionsByUserId(Long userId);
 
-    // delete_date 가 14일이상 지난 유저들을 Hard delete 한다.
-    @Transactional
-    @Modifying
-    @Query("DELETE FROM User u WHERE u.isDeleted = true and u.deleteDate < :cutoffDate")
-    Long deleteUsersByDeleteDate(LocalDate cutoffDate);
+    @Query("SELECT c FROM User u JOIN u.classifications c WHERE u.id = :userId")
+    List<EPolicyClassification> findClassificationsByUserId(Long userId);
 
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    Optional<User> findByEmail(String email);
 
     interface UserSecurityForm {
 
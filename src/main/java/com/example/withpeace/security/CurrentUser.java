@@ -0,0 +1,53 @@
+package com.example.withpeace.security;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import com.example.withpeace.security.info.UserPrincipal;
+import com.example.withpeace.type.EPolicyClassification;
+import com.example.withpeace.type.EPolicyRegion;
+import com.example.withpeace.type.ERole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.List;
+
+/**
+ * 요청 단위 현재 사용자 정보
+ * - JwtAuthenticationFilter 가 인증 시 적재한 UserPrincipal(id, 권한, 정책 필터)을 요청당 한 번만 꺼내 보관
+ * - 서비스에서 사용자 존재 확인/관심 지역·분야 조회를 위해 users 테이블을 다시 읽지 않도록 사용
+ */
+@Component
+@RequestScope
+public class CurrentUser {
+
+    private UserPrincipal principal;
+
+    public Long getId() {
+        return principal().getId();
+    }
+
+    public ERole getRole() {
+        return principal().getRole();
+    }
+
+    public List<EPolicyRegion> getRegions() {
+        return principal().getRegions();
+    }
+
+    public List<EPolicyClassification> getClassifications() {
+        return principal().getClassifications();
+    }
+
+    private UserPrincipal principal() {
+        if (principal == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+                throw new CommonException(ErrorCode.ACCESS_DENIED_ERROR);
+            }
+            principal = userPrincipal;
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.withpeace.security;
+
+import com.example.withpeace.constant.Constant;
+import com.example.withpeace.type.ERouteAccess;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 경로 분류 테이블
+ * - 시작 시 Constant 의 경로 목록을 한 번만 컴파일 (정확한 경로: HashMap, "/**" 접두사 경로: 세그먼트 트라이)
+ * - JwtAuthenticationFilter, JwtExceptionFilter, UserIdInterceptor, SecurityConfig, HTTP 메트릭 태그가 같은 분류를 사용
+ */
+@Component
+public class RouteTable {
+
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private final Map<String, ERouteAccess> exactRoutes = new HashMap<>();
+    private final Node prefixRoot = new Node();
+
+    public RouteTable() {
+        // 같은 경로가 여러 분류에 있으면 먼저 등록된 분류 우선
+        register(Constant.PUBLIC_ROUTES, ERouteAccess.PUBLIC);
+        register(Constant.PERMIT_ROUTES, ERouteAccess.PERMIT);
+        register(Constant.USER_ROUTES, ERouteAccess.USER);
+        register(Constant.ADMIN_ROUTES, ERouteAccess.ADMIN);
+    }
+
+    public ERouteAccess classify(HttpServletRequest request) {
+        return classify(request.getRequestURI());
+    }
+
+    public ERouteAccess classify(String path) {
+        // 1. 정확한 경로
+        ERouteAccess access = exactRoutes.get(path);
+        if (access != null) return access;
+
+        // 2. 접두사 경로 (가장 긴 일치 우선)
+        ERouteAccess matched = null;
+        Node node = prefixRoot;
+        int start = path.startsWith("/") ? 1 : 0;
+        while (node != null && start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) end = path.length();
+
+            node = node.children.get(path.substring(start, end));
+            if (node != null && node.access != null) matched = node.access;
+            start = end + 1;
+        }
+
+        return matched != null ? matched : ERouteAccess.AUTHENTICATED;
+    }
+
+    private void register(String[] patterns, ERouteAccess access) {
+        for (String pattern : patterns) {
+            String normalized = pattern.startsWith("/") ? pattern : "/" + pattern;
+            if (normalized.endsWith(PREFIX_SUFFIX)) {
+                registerPrefix(normalized.substring(1, normalized.length() - PREFIX_SUFFIX.length()), access);
+            } else {
+                exactRoutes.putIfAbsent(normalized, access);
+            }
+        }
+    }
+
+    private void registerPrefix(String prefix, ERouteAccess access) {
+        Node node = prefixRoot;
+        for (String segment : prefix.split("/")) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        if (node.access == null) node.access = access;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private ERouteAccess access;
+    }
+}
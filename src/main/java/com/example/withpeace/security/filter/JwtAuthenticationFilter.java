@@ -6,11 +6,10 @@ import com.example.withpeace.exception.CommonException;
 import com.example.withpeace.exception.ErrorCode;
 import com.example.withpeace.security.JwtAuthenticationProvider;
 import com.example.withpeace.security.JwtAuthenticationToken;
+import com.example.withpeace.security.RouteTable;
 import com.example.withpeace.security.info.JwtUserInfo;
-import com.example.withpeace.type.ERole;
 import com.example.withpeace.util.HeaderUtil;
 import com.example.withpeace.component.JwtUtil;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -31,6 +30,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final RouteTable routeTable;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,11 +39,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String token = HeaderUtil.refineHeader(request, Constant.AUTHORIZATION_HEADER,Constant.BEARER_PREFIX)
                 .orElseThrow(() -> new CommonException(ErrorCode.INVALID_TOKEN_ERROR));
 
-        final Claims claims = jwtUtil.validateToken(token);
-        JwtUserInfo userInfo = new JwtUserInfo(
-                Long.valueOf(claims.get(Constant.USER_ID_CLAIM_NAME,String.class)),
-                ERole.valueOf(claims.get(Constant.USER_ROLE_CLAIM_NAME, String.class))
-        );
+        final JwtUserInfo userInfo = jwtUtil.verifyAccessToken(token);
 
         JwtAuthenticationToken beforeAuthentication = new JwtAuthenticationToken(
                 null,
@@ -64,12 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        if(!request.getRequestURI().startsWith("/actuator/prometheus")) {
-            log.info(request.getRequestURI());
-            log.info(String.valueOf(Constant.NO_NEED_AUTH_URLS.contains(request.getRequestURI())));
-        }
-        return Constant.NO_NEED_AUTH_URLS.contains(request.getRequestURI())
-                || request.getRequestURI().startsWith("/guest");
+        return routeTable.classify(request).skipsAuthentication();
     }
 
 }
@@ -3,6 +3,7 @@ package com.example.withpeace.security.handler;
 
 import com.example.withpeace.repository.UserRepository;
 import com.example.withpeace.security.info.UserPrincipal;
+import com.example.withpeace.security.service.UserPrincipalCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class CustomLogOutProcessHandler implements LogoutHandler {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     @Override
     @Transactional
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -25,6 +27,7 @@ public class CustomLogOutProcessHandler implements LogoutHandler {
         }
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(),null,false);
+        userPrincipalCache.evict(userPrincipal.getId()); // 로그아웃 즉시 인증 캐시 제거
 
     }
 }
@@ -1,6 +1,8 @@
 package com.example.withpeace.security.info;
 
 import com.example.withpeace.repository.UserRepository;
+import com.example.withpeace.type.EPolicyClassification;
+import com.example.withpeace.type.EPolicyRegion;
 import com.example.withpeace.type.ERole;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,6 +15,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @Builder
@@ -20,22 +23,34 @@ import java.util.Map;
 public class UserPrincipal implements UserDetails, OAuth2User {
     @Getter private final Long id;      // 유저 정보 식별
     @Getter private final ERole role;   // 유저와 JWT 권환 확인
+    @Getter private final List<EPolicyRegion> regions;                  // 관심 지역 (정책 필터)
+    @Getter private final List<EPolicyClassification> classifications;  // 관심 분야 (정책 필터)
     private final String password;      // 유저의 비밀번호
     private final Collection<? extends GrantedAuthority> authorities;   // 인가에서 사용할 권한 넣을 곳
     private final Map<String, Object> attributes;   // OAuth2User 에서 사용할 정보 넣을 곳
 
-    public static UserPrincipal create(UserRepository.UserSecurityForm form) {
+    public static UserPrincipal create(UserRepository.UserSecurityForm form,
+                                       List<EPolicyRegion> regions, List<EPolicyClassification> classifications) {
+        return create(form.getId(), form.getRole(), regions, classifications);
+    }
+
+    public static UserPrincipal create(Long id, ERole role,
+                                       List<EPolicyRegion> regions, List<EPolicyClassification> classifications) {
         return UserPrincipal.builder()
-                .id(form.getId())
-                .role(form.getRole())
+                .id(id)
+                .role(role)
+                .regions(regions == null ? Collections.emptyList() : List.copyOf(regions))
+                .classifications(classifications == null ? Collections.emptyList() : List.copyOf(classifications))
                 .attributes(Collections.emptyMap())
-                .authorities(Collections.singleton(new SimpleGrantedAuthority(form.getRole().toSecurityString()))).build();
+                .authorities(Collections.singleton(new SimpleGrantedAuthority(role.toSecurityString()))).build();
     }
 
     public static UserPrincipal create(UserRepository.UserSecurityForm form, Map<String, Object> attributes) {
         return UserPrincipal.builder()
                 .id(form.getId())
                 .role(form.getRole())
+                .regions(Collections.emptyList())
+                .classifications(Collections.emptyList())
                 .attributes(attributes)
                 .authorities(Collections.singleton(new SimpleGrantedAuthority(form.getRole().toSecurityString()))).build();
     }
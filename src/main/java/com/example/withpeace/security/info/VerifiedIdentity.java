@@ -0,0 +1,6 @@
+package com.example.withpeace.security.info;
+
+// 소셜 로그인 ID 토큰 검증 결과 (sub, email)
+public record VerifiedIdentity(String socialId, String email) {
+
+}
@@ -20,12 +20,18 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
+    // 캐시 우선 조회 (캐시 미스일 때만 DB 조회, 정책 필터까지 함께 적재)
     public UserDetails loadUserByUserId(Long userId) throws CommonException {
-        final UserRepository.UserSecurityForm user = userRepository.findByIdAndIsLoginAndRefreshTokenIsNotNull(userId,true)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
-
-        return UserPrincipal.create(user);
+        return userPrincipalCache.get(userId, () -> {
+            final UserRepository.UserSecurityForm user = userRepository.findByIdAndIsLoginAndRefreshTokenIsNotNull(userId,true)
+                    .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
+
+            return UserPrincipal.create(user,
+                    userRepository.findRegionsByUserId(userId),
+                    userRepository.findClassificationsByUserId(userId));
+        });
     }
 
     @Override
@@ -0,0 +1,116 @@
+package com.example.withpeace.security.service;
+
+import com.example.withpeace.security.info.UserPrincipal;
+import com.example.withpeace.type.EPolicyClassification;
+import com.example.withpeace.type.EPolicyRegion;
+import com.example.withpeace.type.ERole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 인증된 사용자(UserPrincipal) 캐시
+ * - 로컬(Caffeine, 10초) -> Redis(60초) -> DB 순으로 조회
+ * - 권한과 함께 정책 필터(관심 지역/분야)도 보관하여 요청마다 추가 조회하지 않음
+ * - 로그아웃/탈퇴/권한·필터 변경 시 evict 로 즉시 제거, 다른 서버의 로컬 캐시는 최대 10초 이내 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private static final String KEY_PREFIX = "auth:principal:";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(10);
+    private static final Duration REDIS_TTL = Duration.ofSeconds(60);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Cache<Long, UserPrincipal> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_TTL)
+            .maximumSize(10_000)
+            .build();
+
+    public UserPrincipal get(Long userId, Supplier<UserPrincipal> loader) {
+        // 1. 로컬 캐시 조회
+        UserPrincipal principal = localCache.getIfPresent(userId);
+        if (principal != null) return principal;
+
+        // 2. Redis 캐시 조회
+        principal = getFromRedis(userId);
+        if (principal != null) {
+            localCache.put(userId, principal);
+            return principal;
+        }
+
+        // 3. 캐시 미스 -> DB 조회 후 캐시 저장 (조회 실패 시 예외 그대로 전파, 실패 결과는 캐시하지 않음)
+        principal = loader.get();
+        localCache.put(userId, principal);
+        putToRedis(principal);
+        return principal;
+    }
+
+    // 캐시 제거 (트랜잭션 진행 중이면 커밋 이후 한 번 더 제거하여 커밋 전 값이 다시 캐시되는 것을 방지)
+    public void evict(Long userId) {
+        evictNow(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict user principal cache. userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private UserPrincipal getFromRedis(Long userId) {
+        try {
+            String cachedJson = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (cachedJson == null) return null;
+
+            CachedPrincipal cached = objectMapper.readValue(cachedJson, CachedPrincipal.class);
+            return UserPrincipal.create(cached.id(), cached.role(), cached.regions(), cached.classifications());
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, fallback to DB: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to deserialize cached user principal: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void putToRedis(UserPrincipal principal) {
+        try {
+            String cacheValue = objectMapper.writeValueAsString(new CachedPrincipal(
+                    principal.getId(), principal.getRole(), principal.getRegions(), principal.getClassifications()));
+            redisTemplate.opsForValue().set(KEY_PREFIX + principal.getId(), cacheValue, REDIS_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache user principal to Redis: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to serialize user principal for caching: {}", e.getMessage());
+        }
+    }
+
+    private record CachedPrincipal(Long id, ERole role,
+                                   List<EPolicyRegion> regions, List<EPolicyClassification> classifications) {}
+}
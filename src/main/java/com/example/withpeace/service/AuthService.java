@@ -1,6 +1,5 @@
 package com.example.withpeace.service;
 
-import com.auth0.jwk.JwkException;
 import com.example.withpeace.constant.Constant;
 import com.example.withpeace.domain.User;
 import com.example.withpeace.dto.JwtTokenDto;
@@ -9,16 +8,17 @@ import com.example.withpeace.dto.response.LoginResponseDto;
 import com.example.withpeace.exception.CommonException;
 import com.example.withpeace.exception.ErrorCode;
 import com.example.withpeace.repository.UserRepository;
+import com.example.withpeace.security.info.VerifiedIdentity;
+import com.example.withpeace.security.service.UserPrincipalCache;
 import com.example.withpeace.type.EProvider;
 import com.example.withpeace.type.ERole;
 import com.example.withpeace.component.JwtUtil;
-import com.example.withpeace.component.OAuth2Util;
+import com.example.withpeace.component.IdentityTokenVerifier;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.Optional;
 
 @Service
@@ -29,28 +29,18 @@ public class AuthService {
 
     private final UserService userService;
     private final JwtUtil jwtUtil;
-    private final OAuth2Util oAuth2Util;
+    private final IdentityTokenVerifier identityTokenVerifier;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
-    public LoginResponseDto loginForMobile(final String accessToken, final EProvider loginProvider) throws IOException, JwkException {
-        String socialId = null;
-
-        switch (loginProvider) {
-
-            case GOOGLE -> {
-                socialId = oAuth2Util.getGoogleUserIdToken(accessToken);
-            }
-            case APPLE -> {
-                socialId = oAuth2Util.getAppleUserIdToken(accessToken);
-            }
-            default -> {
-                throw new CommonException(ErrorCode.INVALID_PROVIDER);
-            }
-        }
+    public LoginResponseDto loginForMobile(final String accessToken, final EProvider loginProvider) {
+        // ID 토큰 검증 (서명/발급자/만료 확인 후 sub, email 추출)
+        VerifiedIdentity identity = identityTokenVerifier.verify(accessToken, loginProvider);
 
-        if (socialId == null) {
+        if (identity == null || identity.socialId() == null) {
             throw new CommonException(ErrorCode.NOT_FOUND_USER);
         }
+        String socialId = identity.socialId();
 
         Optional<User> userOpt = userRepository.findBySocialIdAndEProvider(socialId, loginProvider);
 
@@ -61,7 +51,7 @@ public class AuthService {
                     .socialId(socialId)
                     .eProvider(loginProvider)
                     .role(ERole.GUEST)
-                    .email(oAuth2Util.getGoogleUserEmail(accessToken))
+                    .email(identity.email())
                     .build());
 
         } else {
@@ -84,6 +74,7 @@ public class AuthService {
         userService.updateProfile(user, socialRegisterRequestDto.nickname(), file);
         user.setRole(ERole.USER);
         user.setLogin(true);
+        userPrincipalCache.evict(user.getId()); // 권한 변경 (GUEST -> USER) 반영
         final JwtTokenDto jwtTokenDto = jwtUtil.generateTokens(user.getId(), user.getRole());
         user.setRefreshToken(jwtTokenDto.getRefreshToken());
 
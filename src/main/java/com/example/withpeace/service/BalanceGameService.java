@@ -1,5 +1,8 @@
 package com.example.withpeace.service;
 
+import com.example.withpeace.component.BalanceGameBroadcaster;
+import com.example.withpeace.component.BalanceGamePageCache;
+import com.example.withpeace.component.BalanceGameTally;
 import com.example.withpeace.component.EntityFinder;
 import com.example.withpeace.domain.BalanceGame;
 import com.example.withpeace.domain.BalanceGameChoice;
@@ -17,15 +20,13 @@ import com.example.withpeace.type.EChoice;
 import com.example.withpeace.util.TimeFormatter;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,44 +37,79 @@ public class BalanceGameService {
     private final BalanceGameChoiceRepository balanceGameChoiceRepository;
     private final CommentRepository commentRepository;
     private final EntityFinder entityFinder;
+    private final BalanceGameTally balanceGameTally;
+    private final BalanceGameBroadcaster balanceGameBroadcaster;
+    private final BalanceGamePageCache balanceGamePageCache;
 
     @Transactional
     public List<BalanceGameResponseDto> getBalanceGame(Long userId, Integer pageIndex, Integer pageSize) {
-        // 사용자 존재 여부 확인
-        User user = entityFinder.getUserById(userId);
+        // 모든 사용자에게 같은 페이지 응답 (캐시)
+        List<BalanceGameResponseDto> games = balanceGamePageCache.get(pageIndex, pageSize, () -> buildBalanceGamePage(pageIndex, pageSize));
+        if (games.isEmpty()) { return Collections.emptyList(); }
 
+        // 요청 사용자의 선택만 반영
+        Map<Long, EChoice> userChoices = getUserChoices(userId, games.stream().map(BalanceGameResponseDto::gameId).toList());
+        return games.stream().map(game -> game.withUserChoice(userChoices.get(game.gameId()))).toList();
+    }
+
+    private Map<Long, EChoice> getUserChoices(Long userId, List<Long> gameIds) {
+        // DB 비동기 저장 전 선택까지 포함하는 Redis 기록 우선
+        Map<Long, EChoice> userChoices = new HashMap<>(balanceGameTally.getRecentChoices(gameIds, userId));
+
+        // Redis 에 기록이 없는 게임만 DB 조회
+        List<Long> missingGameIds = gameIds.stream().filter(gameId -> !userChoices.containsKey(gameId)).toList();
+        if (!missingGameIds.isEmpty()) {
+            for (Object[] row : balanceGameChoiceRepository.findChoicesByGameIdsAndUserIdsRaw(missingGameIds, List.of(userId))) {
+                userChoices.put((Long) row[0], (EChoice) row[2]);
+            }
+        }
+        return userChoices;
+    }
+
+    private List<BalanceGameResponseDto> buildBalanceGamePage(int pageIndex, int pageSize) {
         // PageRequest 생성
         PageRequest pageRequest = PageRequest.of(pageIndex, pageSize);
 
         // 밸런스게임 목록 조회 (오늘 날짜 기준으로 과거 및 오늘 게임만 조회)
-        Page<BalanceGame> page = balanceGameRepository.findByGameDateLessThanEqual(LocalDate.now(), pageRequest);
-
-        List<BalanceGame> games = page.getContent();
+        List<BalanceGame> games = balanceGameRepository.findByGameDateLessThanEqual(LocalDate.now(), pageRequest);
         if(games.isEmpty()) { return Collections.emptyList(); }
 
         // 게임 ID 목록 추출
         List<Long> gameIds = games.stream().map(BalanceGame::getId).toList();
 
-        // 사용자 선택 정보 조회
-        List<BalanceGameChoice> choices = balanceGameChoiceRepository.findByGameIds(gameIds);
-        Map<Long, Map<Long, EChoice>> allChoicesByGame = choices.stream()
-                .collect(Collectors.groupingBy(
-                        choice -> choice.getGame().getId(),
-                        Collectors.toMap(
-                                choice -> choice.getUser().getId(),
-                                BalanceGameChoice::getChoice
-                        )
-                ));
+        // 페이지 내 모든 게임의 댓글(작성자 포함) 한 번에 조회
+        Map<Long, List<Comment>> commentsByGame = commentRepository.findCommentsWithWriterByGameIds(gameIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getGame().getId()));
+
+        // 댓글 작성자의 선택만 조회 (게임 ID -> 사용자 ID -> 선택)
+        Set<Long> userIds = new HashSet<>();
+        commentsByGame.values().forEach(comments -> comments.forEach(comment -> userIds.add(comment.getWriter().getId())));
+        Map<Long, Map<Long, EChoice>> choicesByGame = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (Object[] row : balanceGameChoiceRepository.findChoicesByGameIdsAndUserIdsRaw(gameIds, userIds)) {
+                choicesByGame.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put((Long) row[1], (EChoice) row[2]);
+            }
+        }
+
+        // 게임별 선택지 선택 수 (Redis 집계, 미적재 게임은 DB 집계로 적재)
+        Map<Long, BalanceGameTally.Tally> tallies = balanceGameTally.getTallies(gameIds);
+
+        // 이전/다음 게임 존재 여부는 전체 게임 날짜 범위로 판단
+        Object[] dateRange = balanceGameRepository.findGameDateRange().get(0);
+        LocalDate firstGameDate = (LocalDate) dateRange[0];
+        LocalDate lastGameDate = (LocalDate) dateRange[1];
 
         // 게임 목록 변환
         return games.stream().map(game -> {
+            Map<Long, EChoice> choicesForGame = choicesByGame.getOrDefault(game.getId(), Map.of());
+
             // 댓글 목록 변환
-            List<BalanceGameCommentListResponseDto> comments = getCommentsWithChoices(game, allChoicesByGame);
+            List<BalanceGameCommentListResponseDto> comments = commentsByGame.getOrDefault(game.getId(), List.of()).stream()
+                    .map(comment -> convertToDto(comment, choicesForGame))
+                    .toList();
 
-            // 선택 결과 조회
-            Map<EChoice, Long> choiceCounts = getChoiceCounts(game);
-            long optionACount = choiceCounts.getOrDefault(EChoice.OPTION_A, 0L);
-            long optionBCount = choiceCounts.getOrDefault(EChoice.OPTION_B, 0L);
+            // 선택 결과
+            BalanceGameTally.Tally tally = tallies.get(game.getId());
 
             return BalanceGameResponseDto.of(
                     game.getId(),
@@ -81,27 +117,17 @@ public class BalanceGameService {
                     game.getTitle(),
                     game.getOptionA(),
                     game.getOptionB(),
-                    getUserChoice(allChoicesByGame, game.getId(), user.getId()),
+                    null, // 요청 사용자의 선택은 캐시 이후 반영
                     isActive(game.getGameDate()),
-                    optionACount,
-                    optionBCount,
-                    balanceGameRepository.existsByGameDateLessThan(game.getGameDate()),
+                    tally.optionACount(),
+                    tally.optionBCount(),
+                    firstGameDate.isBefore(game.getGameDate()),
                     LocalDate.now().equals(game.getGameDate())
-                            ? false : balanceGameRepository.existsByGameDateGreaterThan(game.getGameDate()),
+                            ? false : lastGameDate.isAfter(game.getGameDate()),
                     comments);
         }).toList();
     }
 
-    private List<BalanceGameCommentListResponseDto> getCommentsWithChoices(BalanceGame game, Map<Long, Map<Long, EChoice>> allChoicesByGame) {
-        // 댓글 작성자 및 선택 정보 조회
-        List<Comment> comments = commentRepository.findCommentsWithWriterByBalanceGame(game);
-        Map<Long, EChoice> choicesForGame = allChoicesByGame.getOrDefault(game.getId(), Map.of());
-
-        return comments.stream()
-                .map(comment -> convertToDto(comment, choicesForGame))
-                .toList();
-    }
-
     private BalanceGameCommentListResponseDto convertToDto(Comment comment, Map<Long, EChoice> commentUserChoiceMap) {
         // 댓글 작성자의 선택 정보 조회
         EChoice userChoice = commentUserChoiceMap.getOrDefault(comment.getWriter().getId(), null);
@@ -117,11 +143,6 @@ public class BalanceGameService {
         );
     }
 
-    private EChoice getUserChoice(Map<Long, Map<Long, EChoice>> allChoicesByGame, Long gameId, Long userId) {
-        Map<Long, EChoice> choicesForGame = allChoicesByGame.get(gameId);
-        return (choicesForGame != null) ? choicesForGame.get(userId) : null;
-    }
-
     private String formatGameDate(LocalDate gameDate) {
         // 게임 날짜가 "오늘"일 경우
         if(LocalDate.now().equals(gameDate)) {
@@ -137,10 +158,20 @@ public class BalanceGameService {
         return LocalDate.now().equals(gameDate);
     }
 
+    public SseEmitter subscribeTally(Long gameId) {
+        // 진행 중인(오늘 날짜) 게임만 구독 가능
+        BalanceGame game = entityFinder.getBalanceGameById(gameId);
+        if (!LocalDate.now().equals(game.getGameDate())) {
+            throw new CommonException(ErrorCode.INVALID_BALANCE_GAME_DATE);
+        }
+
+        return balanceGameBroadcaster.subscribe(gameId);
+    }
+
     @Transactional
     public BalanceGameChoiceResponseDto selectBalanceGameChoice(Long userId, Long gameId, EChoice choice) {
-        // 사용자 존재 여부 확인
-        User user = entityFinder.getUserById(userId);
+        // 선택 저장 시 외래 키로만 사용 (사용자 존재 여부는 인증 단계에서 확인됨)
+        User user = entityFinder.getUserReference(userId);
 
         // 게임 존재 여부 확인
         BalanceGame game = entityFinder.getBalanceGameById(gameId);
@@ -150,6 +181,14 @@ public class BalanceGameService {
             throw new CommonException(ErrorCode.INVALID_BALANCE_GAME_DATE);
         }
 
+        // Redis 집계에 반영 (DB 저장은 비동기)
+        Optional<BalanceGameTally.Tally> tally = balanceGameTally.vote(gameId, userId, choice);
+        if (tally.isPresent()) {
+            balanceGamePageCache.updateCounts(gameId, tally.get().optionACount(), tally.get().optionBCount());
+            return new BalanceGameChoiceResponseDto(tally.get().optionACount(), tally.get().optionBCount());
+        }
+
+        // Redis 장애 시 DB 에 직접 저장 후 집계
         // 기존 선택 업데이트 (업데이트 성공하면 1 이상 반환, 실패하면 0 반환)
         int updateCount = balanceGameChoiceRepository.updateBalanceGameChoice(user, game, choice);
 
@@ -162,6 +201,8 @@ public class BalanceGameService {
                     .build());
         }
 
+        balanceGamePageCache.evictGame(gameId);
+
         // 선택 결과 조회
         Map<EChoice, Long> choiceCounts = getChoiceCounts(game);
         long optionACount = choiceCounts.getOrDefault(EChoice.OPTION_A, 0L);
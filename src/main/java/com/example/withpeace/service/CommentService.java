@@ -1,11 +1,15 @@
 package com.example.withpeace.service;
 
+import com.example.withpeace.component.BalanceGamePageCache;
 import com.example.withpeace.component.EntityFinder;
+import com.example.withpeace.component.PostCommentCounter;
+import com.example.withpeace.component.PostDetailCache;
 import com.example.withpeace.domain.*;
 import com.example.withpeace.dto.request.CommentRegisterRequestV2Dto;
 import com.example.withpeace.exception.CommonException;
 import com.example.withpeace.exception.ErrorCode;
 import com.example.withpeace.repository.*;
+import com.example.withpeace.type.ECommentType;
 import com.example.withpeace.type.EReason;
 import com.example.withpeace.type.EReportType;
 import jakarta.transaction.Transactional;
@@ -19,11 +23,14 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ReportRepository reportRepository;
     private final EntityFinder entityFinder;
+    private final PostDetailCache postDetailCache;
+    private final PostCommentCounter postCommentCounter;
+    private final BalanceGamePageCache balanceGamePageCache;
 
     @Transactional
     public boolean registerCommentV2(Long userId, CommentRegisterRequestV2Dto commentRegisterRequestV2Dto) {
-        // 사용자 존재 여부 확인
-        User user = entityFinder.getUserById(userId);
+        // 작성자는 외래 키로만 사용 (사용자 존재 여부는 인증 단계에서 확인됨)
+        User user = entityFinder.getUserReference(userId);
 
         // 댓글 엔티티 빌더 생성
         Comment.CommentBuilder commentBuilder = Comment.builder()
@@ -33,19 +40,28 @@ public class CommentService {
 
         // 대상 ID 존재 여부 확인 후 설정
         switch (commentRegisterRequestV2Dto.targetType()) {
-            case POST -> commentBuilder.post(entityFinder.getPostById(commentRegisterRequestV2Dto.targetId()));
-            case BALANCE_GAME -> commentBuilder.game(entityFinder.getBalanceGameById(commentRegisterRequestV2Dto.targetId()));
+            case POST -> {
+                commentBuilder.post(entityFinder.getPostById(commentRegisterRequestV2Dto.targetId()));
+                postDetailCache.evict(commentRegisterRequestV2Dto.targetId()); // 상세 캐시의 댓글 목록 갱신
+            }
+            case BALANCE_GAME -> {
+                commentBuilder.game(entityFinder.getBalanceGameById(commentRegisterRequestV2Dto.targetId()));
+                balanceGamePageCache.evictGame(commentRegisterRequestV2Dto.targetId()); // 목록 캐시의 댓글 목록 갱신
+            }
             default -> throw new CommonException(ErrorCode.INVALID_COMMENT_TYPE);
         }
 
         commentRepository.save(commentBuilder.build());
+        if (commentRegisterRequestV2Dto.targetType() == ECommentType.POST) {
+            postCommentCounter.increment(commentRegisterRequestV2Dto.targetId());
+        }
         return true;
     }
 
     @Transactional
     public boolean reportCommentV2(Long userId, Long commentId, EReason reason) {
-        // 사용자 존재 여부 확인
-        User user = entityFinder.getUserById(userId);
+        // 작성자는 외래 키로만 사용 (사용자 존재 여부는 인증 단계에서 확인됨)
+        User user = entityFinder.getUserReference(userId);
         // 댓글 존재 여부 확인
         Comment comment = entityFinder.getCommentById(commentId);
 
@@ -1,26 +1,33 @@
 package com.example.withpeace.service;
 
 import com.example.withpeace.component.EntityFinder;
+import com.example.withpeace.component.FavoritePolicyIdCache;
+import com.example.withpeace.component.FavoritePolicyWriter;
 import com.example.withpeace.config.LegalDongCodeCache;
 import com.example.withpeace.domain.*;
 import com.example.withpeace.dto.response.*;
-import com.example.withpeace.event.FavoritePolicySaveEvent;
 import com.example.withpeace.exception.CommonException;
 import com.example.withpeace.exception.ErrorCode;
 import com.example.withpeace.repository.*;
+import com.example.withpeace.repository.FavoritePolicyRepository.FavoritePolicySummary;
+import com.example.withpeace.security.CurrentUser;
 import com.example.withpeace.type.EActionType;
 import com.example.withpeace.type.EPolicyClassification;
 import com.example.withpeace.type.EPolicyRegion;
+import com.example.withpeace.util.CursorCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.oauth2.sdk.util.StringUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -28,9 +35,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.util.retry.Retry;
@@ -39,6 +46,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,8 +59,8 @@ public class PolicyService {
     @Value("${youth-policy.api-key}")
     private String apiKeyNm;
 
-    private final ApplicationEventPublisher applicationEventPublisher;
     private final PolicyRepository policyRepository;
+    private final PolicyDetailRepository policyDetailRepository;
     private final UserRepository userRepository;
     private final FavoritePolicyRepository favoritePolicyRepository;
     private final ViewPolicyRepository viewPolicyRepository;
@@ -60,11 +68,14 @@ public class PolicyService {
     private final WebClient webClient;
     private final LegalDongCodeCache legalDongCodeCache;
     private final EntityFinder entityFinder;
+    private final FavoritePolicyIdCache favoritePolicyIdCache;
+    private final FavoritePolicyWriter favoritePolicyWriter;
+    private final CurrentUser currentUser;
     private final RedisTemplate<String, String> redisTemplate;
 
-    @Scheduled(cron = "0 0 0 * * *") // 매일 00:00에 실행되도록 설정
+    // leaseHeld: 스케줄러 잠금 유지 여부 (잃으면 조회를 중단하고 반영하지 않음)
     @Transactional
-    public void refreshYouthPolicies(){
+    public void refreshYouthPolicies(BooleanSupplier leaseHeld){
         try {
             log.info("Fetching youth policy data from external API...");
 
@@ -73,12 +84,22 @@ public class PolicyService {
             if(totalCount == 0) throw new CommonException(ErrorCode.YOUTH_POLICY_NO_DATA);
 
             // Open API에서 전체 정책 데이터 조회
-            List<Policy> newPolicies = fetchAllPolicies(totalCount);
+            List<PolicyDetail> newPolicies = fetchAllPolicies(totalCount, leaseHeld);
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("Scheduler lock lost, skip applying youth policies.");
+                return;
+            }
 
             // 기존 데이터와 비교하여 Insert + Update + Hard Delete 수행
             long beforeCount = policyRepository.count(); // 업데이트 전 개수
             processYouthPolicies(newPolicies);
             long afterCount = policyRepository.count(); // 업데이트 후 개수
+            if (!leaseHeld.getAsBoolean()) {
+                // 반영 중 잠금을 잃으면 다른 노드의 갱신과 겹치지 않도록 롤백
+                log.warn("Scheduler lock lost, roll back youth policy refresh.");
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return;
+            }
 
             log.info("Youth policies successfully updated. Before: {}, After: {}", beforeCount, afterCount);
 
@@ -111,7 +132,7 @@ public class PolicyService {
     }
 
     // Open API에서 전체 정책 데이터 조회
-    private List<Policy> fetchAllPolicies(Integer totalCount) {
+    private List<PolicyDetail> fetchAllPolicies(Integer totalCount, BooleanSupplier leaseHeld) {
         try {
             // 호출할 페이지 수 계산
             int pageSize = 50;
@@ -122,6 +143,7 @@ public class PolicyService {
             // 정책 데이터 가져오기
             return Flux.range(1, totalPageCount)
                 .delayElements(Duration.ofMillis(500)) // 요청 간 500ms 딜레이
+                .takeWhile(pageNum -> leaseHeld.getAsBoolean()) // 잠금을 잃으면 남은 페이지 조회 중단
                 .concatMap(pageNum ->
                         webClient.get()
                                 .uri(uriBuilder -> uriBuilder
@@ -143,7 +165,7 @@ public class PolicyService {
                                 )
                 )
                 .map(dto -> dto.toEntity(legalDongCodeCache, sortOrder.getAndIncrement())) // DTO -> Entity 변환 + 순서 부여
-                .collectList() // List<Policy> 형태로 변환
+                .collectList() // List<PolicyDetail> 형태로 변환
                 .block(); // 동기적으로 실행하여 전체 데이터 획득
     } catch (Exception e) {
             log.error("Failed to fetch policy data from Open API: {}", e.getMessage(), e);
@@ -151,20 +173,25 @@ public class PolicyService {
         }
     }
 
-    // 기존 정책 데이터와 비교하여 새로운 데이터를 Insert + Update + Delete 처리
+    // 기존 정책 데이터와 비교하여 새로운 데이터를 Insert + Update + Delete 처리 (요약/상세 테이블 모두 반영)
     @Transactional
-    private void processYouthPolicies(List<Policy> newPolicies) {
+    private void processYouthPolicies(List<PolicyDetail> newPolicies) {
         try {
             // 기존 데이터 가져오기 (id -> Entity 매핑)
             Map<String, Policy> existingPolicyMap = policyRepository.findAll()
                     .stream().collect(Collectors.toMap(Policy::getId, Function.identity()));
+            Map<String, PolicyDetail> existingDetailMap = policyDetailRepository.findAll()
+                    .stream().collect(Collectors.toMap(PolicyDetail::getPolicyId, Function.identity()));
 
             List<Policy> toSave = new ArrayList<>();
             List<Policy> toUpdate = new ArrayList<>();
+            List<PolicyDetail> detailsToSave = new ArrayList<>();
+            List<PolicyDetail> detailsToUpdate = new ArrayList<>();
 
             // 신규 데이터 저장 & 기존 데이터 업데이트
             for (int i=0; i<newPolicies.size(); i++) {
-                Policy newPolicy = newPolicies.get(i);
+                PolicyDetail newDetail = newPolicies.get(i);
+                Policy newPolicy = newDetail.getPolicy();
                 newPolicy.setSortOrder(i+1); // Open API 순서 반영
 
                 Policy existingPolicy = existingPolicyMap.get(newPolicy.getId());
@@ -179,15 +206,28 @@ public class PolicyService {
                     }
                 }
 
+                PolicyDetail existingDetail = existingDetailMap.get(newPolicy.getId());
+                if (existingDetail == null) {
+                    detailsToSave.add(newDetail);
+                } else if (existingDetail.updateAllFieldsFrom(newDetail)) {
+                    detailsToUpdate.add(existingDetail);
+                }
+
                 // 처리된 데이터는 기존 데이터 목록에서 제거
                 existingPolicyMap.remove(newPolicy.getId());
+                existingDetailMap.remove(newPolicy.getId());
             }
 
             // 기존 데이터 중 Open API에서 삭제된 정책을 삭제 리스트에 추가
             List<Policy> toDelete = new ArrayList<>(existingPolicyMap.values());
+            List<PolicyDetail> detailsToDelete = new ArrayList<>(existingDetailMap.values());
 
-            // Insert + Update + Hard Delete
+            // Insert + Update + Hard Delete (상세 정보 삭제 -> 요약 정보 동기화 -> 상세 정보 저장/수정 순으로 실행)
+            if (!detailsToDelete.isEmpty()) {
+                policyDetailRepository.deleteAll(detailsToDelete);
+            }
             synchronizeYouthPolicies(toSave, toUpdate, toDelete);
+            synchronizeYouthPolicyDetails(detailsToSave, detailsToUpdate);
         } catch (Exception e) {
             log.error("Error while processing youth policies: {}", e.getMessage(), e);
             throw new CommonException(ErrorCode.YOUTH_POLICY_PROCESSING_ERROR);
@@ -213,9 +253,31 @@ public class PolicyService {
         }
     }
 
+    // 새로운 정책 상세 데이터를 저장(Insert), 기존 데이터를 수정(Update)
+    @Transactional
+    private void synchronizeYouthPolicyDetails(List<PolicyDetail> toSave, List<PolicyDetail> toUpdate) {
+        try {
+            if (!toSave.isEmpty()) {
+                // 신규 상세 정보는 영속 상태의 정책 엔티티에 연결하여 저장 (@MapsId)
+                List<String> policyIds = toSave.stream().map(detail -> detail.getPolicy().getId()).toList();
+                Map<String, Policy> managedPolicyMap = policyRepository.findAllById(policyIds)
+                        .stream().collect(Collectors.toMap(Policy::getId, Function.identity()));
+
+                policyDetailRepository.saveAll(toSave.stream()
+                        .map(detail -> detail.withPolicy(managedPolicyMap.get(detail.getPolicy().getId())))
+                        .toList());
+            }
+            if (!toUpdate.isEmpty()) {
+                policyDetailRepository.saveAll(toUpdate);
+            }
+        } catch (Exception e) {
+            log.error("Error while saving youth policy detail data: {}", e.getMessage(), e);
+            throw new CommonException(ErrorCode.YOUTH_POLICY_SAVE_ERROR);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<PolicyListResponseDto> getPolicyList(Long userId, String region, String classification, Integer pageIndex, Integer display) {
-        entityFinder.getUserById(userId); // 사용자 조회
 
         // 지역 필터링 (콤마(,)로 구분된 문자열을 변환)
         List<EPolicyRegion> regionList = null;
@@ -249,7 +311,7 @@ public class PolicyService {
         }
 
         // 사용자가 찜한 정책 ID 목록 조회
-        Set<String> favoritePolicyIds = getFavoritePolicyIdsFromEntities(userId, policyPage.getContent());
+        Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, policyPage.getContent());
 
         // DTO 변환 (사용자의 정책 찜하기 여부 포함)
         return policyPage.getContent().stream()
@@ -257,28 +319,21 @@ public class PolicyService {
                 .toList();
     }
 
-    // 사용자가 찜한 정책 ID 목록을 한 번의 쿼리로 조회 (N+1 문제 방지)
-    private Set<String> getFavoritePolicyIdsFromEntities(Long userId, List<Policy> policies) {
-        if (policies.isEmpty()) { return Collections.emptySet(); } // policy가 없을 경우 쿼리 실행 X
-        
-        List<String> policyIds = policies.stream()
-                .map(Policy::getId)
-                .toList();
-
-        // FavoritePolicy 엔티티에서 user_id 와 policy_id를 기준으로 찜한 정책 조회 (policy id만 반환)
-        List<String> favoritePolicyIds = favoritePolicyRepository.findFavoritePolicyIdsByUserIdAndPolicyIds(userId, policyIds);
+    // 사용자가 찜한 정책 ID 목록을 캐시에서 조회 (페이지 단위 DB 조회 없이 메모리에서 포함 여부 확인)
+    private Set<String> getFavoritePolicyIds(Long userId, List<?> policies) {
+        if (policies.isEmpty()) { return Collections.emptySet(); } // policy가 없을 경우 조회 X
 
-        // Set<String> 으로 변환하여 빠르게 조회 가능하도록 설정
-        return new HashSet<>(favoritePolicyIds);
+        return favoritePolicyIdCache.getFavoritePolicyIds(userId);
     }
 
     @Transactional
     public PolicyDetailResponseDto getPolicyDetail(Long userId, String policyId) {
-        entityFinder.getUserById(userId); // 사용자 조회
-        Policy policy = entityFinder.getPolicyById(policyId); // 정책 조회
+        // 정책 상세 조회 (상세 정보 + 요약 정보)
+        PolicyDetail policyDetail = policyDetailRepository.findWithPolicyByPolicyId(policyId)
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_YOUTH_POLICY));
 
         // 사용자가 해당 정책을 찜했는지 여부 확인
-        boolean isFavorite = favoritePolicyRepository.existsByUserIdAndPolicyId(userId, policyId);
+        boolean isFavorite = favoritePolicyIdCache.getFavoritePolicyIds(userId).contains(policyId);
         
         // 정책 조회수 증가 - 조회수가 존재하면 UPDATE, 존재하지 않으면 INSERT
         if (viewPolicyRepository.updateViewCount(policyId) == 0) {
@@ -289,16 +344,16 @@ public class PolicyService {
         userInteractionRepository.upsertUserInteraction(userId, policyId, EActionType.VIEW.name());
 
         // 정책 상세 정보 + 사용자의 찜 여부를 DTO 변환 및 반환
-        return PolicyDetailResponseDto.from(policy, isFavorite);
+        return PolicyDetailResponseDto.from(policyDetail, isFavorite);
     }
 
     @Transactional
     public void registerFavoritePolicy(Long userId, String policyId) {
-        User user = entityFinder.getUserById(userId); // 사용자 조회
-        Policy policy = entityFinder.getPolicyById(policyId); // 정책 조회
+        entityFinder.getPolicyById(policyId); // 정책 조회
 
-        // 찜 INSERT (트랜잭션 분리된 이벤트로 처리)
-        applicationEventPublisher.publishEvent(new FavoritePolicySaveEvent(user, policy));
+        // 찜 INSERT (사용자별 순서가 보장되는 배치 쓰기 파이프라인으로 처리)
+        favoritePolicyWriter.submitFavorite(userId, policyId);
+        favoritePolicyIdCache.add(userId, policyId); // 찜 ID 캐시 write-through
 
         try{
             // 사용자 상호작용 데이터 INSERT (이미 존재하면 action_time만 업데이트)
@@ -310,7 +365,6 @@ public class PolicyService {
 
     @Transactional(readOnly = true)
     public List<PolicyListResponseDto> getFavoritePolicy(Long userId) {
-        entityFinder.getUserById(userId); // 사용자 조회
 
         // 사용자가 찜한 정책 목록 조회
         List<Policy> policies = favoritePolicyRepository.findPolicyByUserIdOrderByCreateDateDesc(userId);
@@ -321,15 +375,67 @@ public class PolicyService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public FavoritePolicyPageResponseDto getFavoritePolicyPage(Long userId, String cursor, Integer size) {
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<FavoritePolicySummary> summaries;
+        if (cursor == null || cursor.isBlank()) { // 첫 페이지
+            summaries = favoritePolicyRepository.findFavoritePolicySummaries(userId, pageable);
+        } else {
+            CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+            summaries = favoritePolicyRepository.findFavoritePolicySummariesAfter(
+                    userId, decoded.createDate(), decoded.id(), pageable);
+        }
+
+        boolean hasNext = summaries.size() > size;
+        if (hasNext) summaries = summaries.subList(0, size);
+
+        // 페이지 내 정책들의 지역 목록을 한 번의 쿼리로 조회 (N+1 문제 방지)
+        Map<String, List<EPolicyRegion>> regionsByPolicyId = new HashMap<>();
+        if (!summaries.isEmpty()) {
+            List<String> policyIds = summaries.stream().map(FavoritePolicySummary::getId).toList();
+            for (Object[] row : policyRepository.findRegionsByPolicyIdsRaw(policyIds)) {
+                regionsByPolicyId.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((EPolicyRegion) row[1]);
+            }
+        }
+
+        // DTO 변환 (찜한 정책이므로 찜하기 여부는 모두 true로 반환)
+        List<PolicyListResponseDto> policies = summaries.stream()
+                .map(summary -> PolicyListResponseDto.builder()
+                        .id(summary.getId())
+                        .title(defaultIfNull(summary.getTitle()))
+                        .introduce(defaultIfNull(summary.getIntroduce()))
+                        .classification(summary.getClassification())
+                        .region(regionsByPolicyId.getOrDefault(summary.getId(), new ArrayList<>()))
+                        .ageInfo(defaultIfNull(summary.getAge()))
+                        .applicationPeriodStatus(summary.getApplicationPeriodStatus())
+                        .isFavorite(true)
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            FavoritePolicySummary last = summaries.get(summaries.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreateDate(), last.getFavoriteId());
+        }
+
+        return FavoritePolicyPageResponseDto.of(policies, nextCursor, hasNext);
+    }
+
+    private String defaultIfNull(String value) {
+        return value != null ? value : "-";
+    }
+
     @Transactional
     public void deleteFavoritePolicy(Long userId, String policyId) {
-        entityFinder.getUserById(userId); // 사용자 조회
         entityFinder.getPolicyById(policyId); // 정책 조회
 
         try {
-            // 정책 찜하기 히제 (존재할 경우에만 삭제)
-            FavoritePolicy favoritePolicy = favoritePolicyRepository.findByUserIdAndPolicyId(userId, policyId);
-            if(favoritePolicy != null) favoritePolicyRepository.delete(favoritePolicy);
+            // 정책 찜하기 해제 (찜하기와 같은 파이프라인으로 처리하여 요청 순서 보장)
+            favoritePolicyWriter.submitUnfavorite(userId, policyId);
+            favoritePolicyIdCache.remove(userId, policyId); // 찜 ID 캐시 write-through
 
             // 사용자 상호작용 데이터 중 '찜하기" 유형 삭제
             UserInteraction interaction =
@@ -342,14 +448,12 @@ public class PolicyService {
 
     @Transactional(readOnly = true)
     public List<PolicyListResponseDto> getRecommendationPolicyList(Long userId) {
-        User user = entityFinder.getUserById(userId); // 사용자 조회
-
-        // 사용자의 관심 지역 및 분야 필터링 목록
-        List<EPolicyRegion> regionList = user.getRegions(); // 지역 필터링 리스트
-        List<EPolicyClassification> classificationList = user.getClassifications(); // 정책분야 필터링 리스트
+        // 사용자의 관심 지역 및 분야 필터링 목록 (인증 시 적재된 요청 컨텍스트에서 조회, 추가 쿼리 없음)
+        List<EPolicyRegion> regionList = currentUser.getRegions(); // 지역 필터링 리스트
+        List<EPolicyClassification> classificationList = currentUser.getClassifications(); // 정책분야 필터링 리스트
 
         // 사용자 상호작용(조회, 찜하기) 기반 정책 가중치 계산
-        Map<String, Integer> policyWeights = calculatePolicyWeightByInteraction(user);
+        Map<String, Integer> policyWeights = calculatePolicyWeightByInteraction(entityFinder.getUserReference(userId));
 
         List<PolicyListResponseDto> recommendationList = new ArrayList<>();
         if (!policyWeights.isEmpty()) {
@@ -369,7 +473,7 @@ public class PolicyService {
                     .toList();
 
             // 사용자가 찜한 정책 ID 목록 조회
-            Set<String> favoritePolicyIds = getFavoritePolicyIdsFromEntities(userId, filteredRecommendedPolicies);
+            Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, filteredRecommendedPolicies);
 
             // DTO 변환
             recommendationList = filteredRecommendedPolicies.stream()
@@ -384,7 +488,7 @@ public class PolicyService {
                     .collect(Collectors.toSet());
 
             int needed = 6 - recommendationList.size();
-            List<PolicyListResponseDto> hotPolicyList = getHotPolicyList(user, regionList, classificationList, needed * 2).stream() // 중복 제거 고려하여 필요수 x 2
+            List<PolicyListResponseDto> hotPolicyList = getHotPolicyList(userId, regionList, classificationList, needed * 2).stream() // 중복 제거 고려하여 필요수 x 2
                     .filter(policy -> !existingPolicyIds.contains(policy.id())) // 중복 제거
                     .limit(6 - recommendationList.size()) // 부족한 수 만큼 제한
                     .toList();
@@ -438,7 +542,7 @@ public class PolicyService {
     }
 
     // 핫한 정책 조회 및 필터링
-    public List<PolicyListResponseDto> getHotPolicyList(User user, List<EPolicyRegion> regionList,
+    public List<PolicyListResponseDto> getHotPolicyList(Long userId, List<EPolicyRegion> regionList,
                                                          List<EPolicyClassification> classificationList, int count) {
         List<Policy> hotPolicies;
 
@@ -454,7 +558,7 @@ public class PolicyService {
         }
 
         // 사용자 찜한 정책 ID 조회
-        Set<String> favoritePolicyIds = getFavoritePolicyIdsFromEntities(user.getId(), hotPolicies);
+        Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, hotPolicies);
 
         // DTO 변환
         return hotPolicies.stream()
@@ -470,7 +574,6 @@ public class PolicyService {
      */
     @Transactional(readOnly = true)
     public List<PolicyListResponseDto> getHotPolicyList(Long userId) {
-        entityFinder.getUserById(userId); // 사용자 조회
 
         String key = "hot_policies";
         ObjectMapper objectMapper = new ObjectMapper();
@@ -492,7 +595,7 @@ public class PolicyService {
                 );
 
                 // 사용자 찜한 정책 ID 조회
-                Set<String> favoritePolicyIds = getFavoritePolicyIdsFromDtos(userId, cached);
+                Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, cached);
 
                 // 캐시된 리스트에 찜 여부만 반영하여 반환
                 return cached.stream()
@@ -519,7 +622,7 @@ public class PolicyService {
         // Lazy 필드 초기화 (native query + DTO 에서 사용 시 필요)
         hotPolicies.forEach(policy -> Hibernate.initialize(policy.getRegion()));
         // 사용자 찜한 정책 ID 조회
-        Set<String> favoritePolicyIds = getFavoritePolicyIdsFromEntities(userId, hotPolicies);
+        Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, hotPolicies);
 
         // 3. DTO 변환
         List<PolicyListResponseDto> result = hotPolicies.stream()
@@ -547,19 +650,8 @@ public class PolicyService {
         return result;
     }
 
-    /**
-     * Redis 캐시에서 ID만 추출해 찜 여부 확인
-     */
-    private Set<String> getFavoritePolicyIdsFromDtos(Long userId, List<PolicyCacheListResponseDto> dtos) {
-        if (dtos.isEmpty()) return Collections.emptySet();
-        List<String> ids = dtos.stream().map(PolicyCacheListResponseDto::id).toList();
-        List<String> favoriteIds = favoritePolicyRepository.findFavoritePolicyIdsByUserIdAndPolicyIds(userId, ids);
-        return new HashSet<>(favoriteIds);
-    }
-
     @Transactional(readOnly = true)
     public PolicySearchResponseDto getSearchPolicyList(Long userId, String keyword, Integer pageIndex, Integer pageSize) {
-        entityFinder.getUserById(userId); // 사용자 조회
 
         // 검색어 유효성 검증 (null 체크 및 최소 2자 이상)
         if(keyword == null || keyword.trim().length() < 2) {
@@ -577,7 +669,7 @@ public class PolicyService {
         List<Policy> searchResultList = searchResultPage.getContent();
 
         // 검색 결과 중 사용자 찜한 정책 ID 조회
-        Set<String> favoritePolicyIds = getFavoritePolicyIdsFromEntities(userId, searchResultList);
+        Set<String> favoritePolicyIds = getFavoritePolicyIds(userId, searchResultList);
 
         // DTO 변환
         List<PolicyListResponseDto> result = searchResultList.stream()
@@ -600,13 +692,12 @@ public class PolicyService {
             // 검색 대상 필드 (title, introduce, applicationDetails 필드에서 검색)
             Path<String> title = root.get("title");
             Path<String> introduce = root.get("introduce");
-            Path<String> applicationDetails = root.get("applicationDetails");
 
             // 1. 전체 문구 포함 조건
             Predicate fullTextMatch = builder.or(
                     builder.like(title, "%" + escapedKeyword + "%"),
                     builder.like(introduce, "%" + escapedKeyword + "%"),
-                    builder.like(applicationDetails, "%" + escapedKeyword + "%")
+                    applicationDetailsLike(root, query, builder, escapedKeyword)
             );
 
             // 2. 각 단어가 하나 이상 포함되는 AND 조건
@@ -615,7 +706,7 @@ public class PolicyService {
                 Predicate wordMatch = builder.or(
                         builder.like(title, "%" + word + "%"),
                         builder.like(introduce, "%" + word + "%"),
-                        builder.like(applicationDetails, "%" + word + "%")
+                        applicationDetailsLike(root, query, builder, word)
                 );
                 wordPredicates.add(wordMatch);
             }
@@ -626,4 +717,14 @@ public class PolicyService {
         };
     }
 
+    // applicationDetails 는 상세 테이블에 있으므로 EXISTS 서브쿼리로 검색 (검색 결과 목록은 요약 테이블만 조회)
+    private Predicate applicationDetailsLike(Root<Policy> root, CriteriaQuery<?> query, CriteriaBuilder builder, String keyword) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<PolicyDetail> detail = subquery.from(PolicyDetail.class);
+        subquery.select(detail.get("policyId"))
+                .where(builder.equal(detail.get("policyId"), root.get("id")),
+                        builder.like(detail.get("applicationDetails"), "%" + keyword + "%"));
+        return builder.exists(subquery);
+    }
+
 }
@@ -1,11 +1,16 @@
 package com.example.withpeace.service;
 
+import com.example.withpeace.component.BlobDeletionOutbox;
 import com.example.withpeace.component.EntityFinder;
+import com.example.withpeace.component.ImageUploader;
+import com.example.withpeace.component.PostCommentCounter;
+import com.example.withpeace.component.PostDetailCache;
+import com.example.withpeace.component.SignedUploadUrlIssuer;
+import com.example.withpeace.component.TopicHeadIndex;
+import com.example.withpeace.dto.request.PostImageUploadUrlRequestDto;
+import com.example.withpeace.dto.response.ImageUploadUrlResponseDto;
 import com.example.withpeace.dto.response.RecentPostResponseDto;
 import com.example.withpeace.type.ECommentType;
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import com.example.withpeace.domain.Comment;
 import com.example.withpeace.domain.Image;
 import com.example.withpeace.domain.User;
@@ -13,6 +18,7 @@ import com.example.withpeace.domain.Post;
 import com.example.withpeace.domain.Report;
 import com.example.withpeace.dto.request.PostRegisterRequestDto;
 import com.example.withpeace.dto.response.CommentListResponseDto;
+import com.example.withpeace.dto.response.CommentPageResponseDto;
 import com.example.withpeace.dto.response.PostDetailResponseDto;
 import com.example.withpeace.dto.response.PostListResponseDto;
 import com.example.withpeace.exception.CommonException;
@@ -25,6 +31,7 @@ import com.example.withpeace.repository.ReportRepository;
 import com.example.withpeace.type.EReason;
 import com.example.withpeace.type.EReportType;
 import com.example.withpeace.type.ETopic;
+import com.example.withpeace.util.CursorCodec;
 import com.example.withpeace.util.TimeFormatter;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -32,10 +39,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,79 +56,251 @@ public class PostService {
     private final ImageRepository imageRepository;
     private final CommentRepository commentRepository;
     private final ReportRepository reportRepository;
-    private final Storage storage;
     private final EntityFinder entityFinder;
+    private final ImageUploader imageUploader;
+    private final SignedUploadUrlIssuer signedUploadUrlIssuer;
+    private final BlobDeletionOutbox blobDeletionOutbox;
+    private final PostDetailCache postDetailCache;
+    private final TopicHeadIndex topicHeadIndex;
+    private final PostCommentCounter postCommentCounter;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${spring.cloud.gcp.storage.bucket}")
-    private String bucketName;
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20; // 게시글 상세에 포함할 첫 댓글 페이지 크기
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$"); // SHA-256 hex
 
-    @Transactional
     public Long registerPost(Long userId, PostRegisterRequestDto postRegisterRequestDto, List<MultipartFile> imageFiles) {
-        User user = entityFinder.getUserById(userId);
-
-        Post post = postRepository.saveAndFlush(Post.builder()
-                .writer(user)
-                .title(postRegisterRequestDto.title())
-                .content(postRegisterRequestDto.content())
-                .type(postRegisterRequestDto.type())
-                .build());
+        // 1. 게시글 저장 (GCS 업로드 동안 DB 커넥션을 점유하지 않도록 짧은 트랜잭션으로 분리)
+        Long postId = transactionTemplate.execute(status -> {
+            Post post = postRepository.save(Post.builder()
+                    .writer(entityFinder.getUserReference(userId)) // 외래 키로만 사용 (조회 없음)
+                    .title(postRegisterRequestDto.title())
+                    .content(postRegisterRequestDto.content())
+                    .type(postRegisterRequestDto.type())
+                    .build());
+            topicHeadIndex.onPostCreated(post); // 주제별 최신 게시글 포인터 갱신
+            return post.getId();
+        });
 
-        // imageFiles가 비어있지 않은 경우에만 uploadImages 메소드를 호출합니다.
+        // 2. 이미지 업로드 및 저장 (실패 시 게시글 삭제로 보상)
         if (imageFiles != null && !imageFiles.isEmpty()) {
-            uploadImages(post.getId(), imageFiles);
+            try {
+                syncImages(postId, imageFiles);
+            } catch (CommonException e) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Post post = entityFinder.getPostById(postId);
+                    postRepository.delete(post);
+                    topicHeadIndex.onPostDeleted(post);
+                });
+                throw e;
+            }
         }
 
-        return post.getId();
+        return postId;
     }
 
-    @Transactional
-    private void uploadImages(Long postId, List<MultipartFile> imageFiles) {
-        Post post = entityFinder.getPostById(postId);
+    /**
+     * 요청 이미지 목록으로 게시글 이미지 동기화 (내용 해시 기준 변경분만 반영)
+     * - 이미 저장된 것과 같은 내용의 이미지는 업로드하지 않고 기존 행 유지(순서만 갱신)
+     * - 새 이미지만 업로드(트랜잭션 밖) 후 행 추가, 요청에 없는 기존 행은 삭제
+     * - 업로드 실패 시 ImageUploader 가 올라간 파일을 정리하고 기존 이미지는 그대로 유지, DB 반영 실패 시 새로 올린 파일 삭제
+     */
+    private void syncImages(Long postId, List<MultipartFile> imageFiles) {
+        applyImages(postId, uploadImages(postId, imageFiles), post -> {});
+    }
 
-        int idx = 0;
-        for (MultipartFile file : imageFiles) {
-            String fileName = idx + "_" + file.getOriginalFilename();
-            String blobName = "postImage/" + postId + "/" + fileName;
-            String fileUrl = "https://storage.googleapis.com/" + bucketName + "/" + blobName;
+    // 게시글에 없는 내용의 이미지만 업로드 (트랜잭션 밖)
+    private List<ImageUploader.UploadedImage> uploadImages(Long postId, List<MultipartFile> imageFiles) {
+        if (imageFiles.isEmpty()) return List.of();
+        Set<String> existingHashes = transactionTemplate.execute(status -> imageRepository.findContentHashesByPostId(postId));
+        return imageUploader.upload(postImageDirectory(postId), imageFiles, existingHashes);
+    }
 
-            try {
-                BlobId blobId = BlobId.of(bucketName, blobName);
-                BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                        .setContentType(file.getContentType())
-                        .build();
-                storage.create(blobInfo, file.getBytes());
-
-                imageRepository.save(Image.builder()
-                        .post(post)
-                        .url(fileUrl)
-                        .build());
-            } catch (Exception e) {
-                throw new CommonException(ErrorCode.POST_ERROR);
-            }
+    /**
+     * 업로드 결과(요청 순서)를 게시글 이미지 행에 반영
+     * - multipart 업로드(syncImages)와 서명 URL 직접 업로드 확인(confirmImages)이 같은 변경분 반영 로직 사용
+     * - 더 이상 참조되지 않는 GCS 파일은 같은 트랜잭션에서 삭제 예약 (blob_deletions)
+     * - 새 행이 참조하는 파일의 대기 중인 삭제 예약은 같은 트랜잭션에서 취소하고, 이 요청이 만들지 않은(재사용한) 파일은 취소 이후 존재를 다시 확인
+     * - postUpdate: 이미지와 함께 한 트랜잭션에서 반영할 게시글 변경 (게시글 수정)
+     */
+    private void applyImages(Long postId, List<ImageUploader.UploadedImage> uploadedImages, Consumer<Post> postUpdate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = postRepository.getReferenceById(postId);
+                postUpdate.accept(post);
+                List<Image> existingImages = imageRepository.findAllByPost(post);
+
+                // 내용 해시별 재사용 가능한 기존 행
+                Map<String, Image> imageByHash = new HashMap<>();
+                Map<String, Deque<Image>> reusable = new HashMap<>();
+                for (Image image : existingImages) {
+                    if (image.getContentHash() == null) continue; // 이전 방식 이미지는 재사용하지 않음
+                    imageByHash.putIfAbsent(image.getContentHash(), image);
+                    reusable.computeIfAbsent(image.getContentHash(), hash -> new ArrayDeque<>()).add(image);
+                }
 
-            idx++;
+                Set<Image> kept = new HashSet<>();
+                List<Image> toInsert = new ArrayList<>();
+                for (int position = 0; position < uploadedImages.size(); position++) {
+                    ImageUploader.UploadedImage uploaded = uploadedImages.get(position);
+                    Deque<Image> candidates = reusable.get(uploaded.contentHash());
+                    Image reused = candidates == null ? null : candidates.poll();
+
+                    if (reused != null) { // 기존 이미지 유지
+                        reused.updatePosition(position);
+                        kept.add(reused);
+                    } else if (uploaded.isUploaded()) { // 새로 올린 이미지
+                        toInsert.add(newImage(post, uploaded.contentHash(), position,
+                                imageUploader.toUrl(uploaded.blobName()),
+                                imageUploader.toUrl(uploaded.thumbnailBlobName()),
+                                imageUploader.toUrl(uploaded.mediumBlobName())));
+                    } else { // 기존 이미지와 같은 내용이 요청에 여러 번 포함된 경우 같은 파일 참조
+                        Image source = imageByHash.get(uploaded.contentHash());
+                        toInsert.add(newImage(post, uploaded.contentHash(), position,
+                                source.getUrl(), source.getThumbnailUrl(), source.getMediumUrl()));
+                    }
+                }
+
+                // 다시 참조하는 파일의 삭제 예약 취소 (워커가 처리 중이면 끝날 때까지 대기) 후 재사용 파일이 남아 있는지 확인
+                blobDeletionOutbox.cancel(postId, toInsert.stream()
+                        .flatMap(image -> image.getAllUrls().stream())
+                        .map(imageUploader::toBlobName)
+                        .distinct()
+                        .toList());
+                List<String> reused = uploadedImages.stream()
+                        .flatMap(uploaded -> uploaded.reusedBlobNames().stream())
+                        .distinct()
+                        .toList();
+                if (!imageUploader.findMissing(reused).isEmpty()) throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+
+                List<Image> removed = existingImages.stream().filter(image -> !kept.contains(image)).toList();
+                imageRepository.deleteAllInBatch(removed);
+                imageRepository.saveAll(toInsert);
+
+                // 남은 이미지가 참조하지 않는 파일만 삭제 대상
+                Set<String> remainingUrls = new HashSet<>();
+                kept.forEach(image -> remainingUrls.addAll(image.getAllUrls()));
+                toInsert.forEach(image -> remainingUrls.addAll(image.getAllUrls()));
+                enqueueBlobDeletion(removed.stream()
+                        .flatMap(image -> image.getAllUrls().stream())
+                        .filter(url -> !remainingUrls.contains(url))
+                        .toList());
+            });
+        } catch (RuntimeException e) {
+            imageUploader.deleteQuietly(uploadedImages.stream()
+                    .flatMap(uploaded -> uploaded.createdBlobNames().stream())
+                    .distinct()
+                    .toList());
+            throw new CommonException(ErrorCode.POST_ERROR);
         }
     }
 
-    @Transactional
+    /**
+     * 게시글 이미지 직접 업로드용 서명 URL 발급 (작성자만 가능)
+     * - 요청한 해시 중 게시글에 이미 저장된 내용은 URL 없이 alreadyUploaded 로 응답
+     * - blob 이름: postImage/{postId}/{UUID} (서버 생성, 확인 요청에 그대로 전달)
+     */
+    public List<ImageUploadUrlResponseDto> issueImageUploadUrls(Long userId, Long postId, List<PostImageUploadUrlRequestDto> images) {
+        validateContentHashes(images.stream().map(PostImageUploadUrlRequestDto::contentHash).toList());
+        Set<String> existingHashes = transactionTemplate.execute(status -> {
+            getWritablePost(userId, postId);
+            return imageRepository.findContentHashesByPostId(postId);
+        });
+
+        Map<String, ImageUploadUrlResponseDto> responses = new LinkedHashMap<>(); // 요청 내 중복 해시는 한 번만 발급
+        for (PostImageUploadUrlRequestDto image : images) {
+            responses.computeIfAbsent(image.contentHash(), hash -> existingHashes.contains(hash)
+                    ? ImageUploadUrlResponseDto.alreadyUploaded(hash)
+                    : ImageUploadUrlResponseDto.from(hash,
+                            signedUploadUrlIssuer.issue(postImageDirectory(postId) + UUID.randomUUID(), image.contentType())));
+        }
+        return List.copyOf(responses.values());
+    }
+
+    /**
+     * 직접 업로드 완료 확인 후 게시글 이미지 반영 (작성자만 가능)
+     * - contentHashes 는 최종 이미지 목록(표시 순서), 목록에 없는 기존 이미지는 삭제
+     * - 새 해시는 blobNames 로 받은 발급 blob(postImage/{postId}/ 바로 아래)의 존재/형식/크기를 확인한 뒤 행 추가 (축소본 없이 원본 URL 사용)
+     * - 내용은 다시 내려받지 않음: 서버가 만든 이름이고 덮어쓸 수 없으므로 해시는 게시글 안 중복 판단에만 사용
+     * @return 반영된 이미지 URL (표시 순서)
+     */
+    public List<String> confirmImages(Long userId, Long postId, List<String> contentHashes, Map<String, String> blobNames) {
+        validateContentHashes(contentHashes);
+        Set<String> existingHashes = transactionTemplate.execute(status -> {
+            getWritablePost(userId, postId);
+            return imageRepository.findContentHashesByPostId(postId);
+        });
+
+        Map<String, String> newBlobNames = new LinkedHashMap<>();
+        contentHashes.stream()
+                .filter(hash -> !existingHashes.contains(hash))
+                .forEach(hash -> newBlobNames.putIfAbsent(hash, directUploadBlobName(postId, blobNames.get(hash))));
+        signedUploadUrlIssuer.verifyUploaded(List.copyOf(newBlobNames.values()));
+
+        List<ImageUploader.UploadedImage> uploadedImages = contentHashes.stream()
+                .map(hash -> newBlobNames.containsKey(hash)
+                        ? new ImageUploader.UploadedImage(hash, newBlobNames.get(hash), null, null)
+                        : ImageUploader.UploadedImage.existing(hash))
+                .toList();
+        applyImages(postId, uploadedImages, post -> {});
+        postDetailCache.evict(postId);
+
+        return transactionTemplate.execute(status -> imageRepository.findUrlsByPost(postRepository.getReferenceById(postId)));
+    }
+
+    // 직접 업로드 blob 은 게시글 경로 바로 아래만 허용
+    private String directUploadBlobName(Long postId, String blobName) {
+        if (blobName == null) throw new CommonException(ErrorCode.NOT_UPLOADED_FILE);
+        String directory = postImageDirectory(postId);
+        if (!blobName.startsWith(directory) || blobName.indexOf('/', directory.length()) >= 0) {
+            throw new CommonException(ErrorCode.ACCESS_DENIED_ERROR);
+        }
+        return blobName;
+    }
+
+    // 작성자 본인의 게시글만 이미지 변경 허용
+    private Post getWritablePost(Long userId, Long postId) {
+        Post post = entityFinder.getPostById(postId);
+        if (!post.getWriter().getId().equals(userId)) throw new CommonException(ErrorCode.ACCESS_DENIED_ERROR);
+        return post;
+    }
+
+    // 해시는 blob 이름에 그대로 쓰이므로 형식 검증
+    private void validateContentHashes(Collection<String> contentHashes) {
+        if (contentHashes.stream().anyMatch(hash -> hash == null || !CONTENT_HASH_PATTERN.matcher(hash).matches())) {
+            throw new CommonException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+
+    private String postImageDirectory(Long postId) {
+        return "postImage/" + postId + "/";
+    }
+
+    private Image newImage(Post post, String contentHash, int position, String url, String thumbnailUrl, String mediumUrl) {
+        return Image.builder()
+                .post(post)
+                .contentHash(contentHash)
+                .position(position)
+                .url(url)
+                .thumbnailUrl(thumbnailUrl)
+                .mediumUrl(mediumUrl)
+                .build();
+    }
+
     public PostDetailResponseDto getPostDetail(Long userId, Long postId) {
-        entityFinder.getUserById(userId);
+        // 조회수 증가 (단일 UPDATE, 없는 게시글이면 404)
+        Integer updated = transactionTemplate.execute(status -> postRepository.incrementViewCount(postId));
+        if (updated == null || updated == 0) throw new CommonException(ErrorCode.NOT_FOUND_POST);
+
+        // 조립된 상세 응답은 캐시에서 조회 (미스 시에만 게시글/작성자/이미지/댓글 조회)
+        return postDetailCache.get(postId, () -> transactionTemplate.execute(status -> buildPostDetail(postId)));
+    }
+
+    private PostDetailResponseDto buildPostDetail(Long postId) {
         Post post = entityFinder.getPostById(postId);
 
         List<String> postImageUrls = Optional.ofNullable(imageRepository.findUrlsByPost(post))
                 .orElse(Collections.emptyList());
-        List<CommentListResponseDto> comments = Optional.ofNullable(commentRepository.findCommentsByPost(post))
-                .orElse(Collections.emptyList())
-                .stream()
-                .map(comment -> CommentListResponseDto.builder()
-                        .commentId(comment.getId())
-                        .userId(comment.getWriter().getId())
-                        .nickname(comment.getWriter().getNickname())
-                        .profileImageUrl(comment.getWriter().getProfileImage())
-                        .content(comment.getContent())
-                        .createDate(TimeFormatter.format(comment.getCreateDate()))
-                        .build())
-                .collect(Collectors.toList());
+        CommentPageResponseDto comments = getCommentPage(postId, null, DETAIL_COMMENT_PAGE_SIZE); // 첫 페이지만 포함
 
         PostDetailResponseDto postDetailResponseDto =
                 PostDetailResponseDto.builder()
@@ -132,17 +313,47 @@ public class PostService {
                         .type(post.getType())
                         .createDate(TimeFormatter.format(post.getCreateDate()))
                         .postImageUrls(postImageUrls)
-                        .comments(comments)
+                        .comments(comments.comments())
+                        .commentNextCursor(comments.nextCursor())
+                        .hasNextComments(comments.hasNext())
                         .build();
 
-        post.incrementViewCount();
-
         return postDetailResponseDto;
     }
 
+    /**
+     * 게시글 댓글 커서 페이지 조회 (작성 순)
+     * - 작성자는 fetch join 으로 함께 조회하여 페이지당 쿼리 1회
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     * - 없는 게시글이면 NOT_FOUND_POST
+     */
+    public CommentPageResponseDto getCommentPage(Long postId, String cursor, Integer size) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) { // 첫 페이지
+            comments = commentRepository.findCommentPageByPostId(postId, pageable);
+        } else {
+            CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+            comments = commentRepository.findCommentPageByPostIdAfter(postId, decoded.createDate(), decoded.id(), pageable);
+        }
+        // 댓글이 없을 때만 게시글 존재 여부 확인 (댓글은 게시글과 함께 삭제되므로 댓글이 있으면 존재하는 게시글)
+        if (comments.isEmpty() && !postRepository.existsById(postId)) throw new CommonException(ErrorCode.NOT_FOUND_POST);
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) comments = comments.subList(0, size);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreateDate(), last.getId());
+        }
+
+        return CommentPageResponseDto.of(comments.stream().map(CommentListResponseDto::from).toList(), nextCursor, hasNext);
+    }
+
     @Transactional
     public List<PostListResponseDto> getPostList(Long userId, ETopic type, Integer pageIndex, Integer pageSize) {
-        entityFinder.getUserById(userId);
 
         Pageable pageable = PageRequest.of(pageIndex, pageSize);
         Page<Post> postPage = postRepository.findByType(type, pageable);
@@ -152,8 +363,8 @@ public class PostService {
                 .map(Post::getId)
                 .collect(Collectors.toList());
 
-        // 2. 한 번의 쿼리로 모든 이미지 URL 조회
-        Map<Long, String> postImageUrls = imageRepository.findFirstImageUrlsByPostIdsRaw(postIds).stream()
+        // 2. 한 번의 쿼리로 모든 게시글의 첫 번째 이미지 썸네일 URL 조회
+        Map<Long, String> postImageUrls = imageRepository.findFirstThumbnailUrlsByPostIdsRaw(postIds).stream()
                 .collect(Collectors.toMap(
                         row -> (Long) row[0], // post_id를 key로
                         row -> (String) row[1] // url을 value로
@@ -167,71 +378,47 @@ public class PostService {
         return postListResponseDtos;
     }
 
-    @Transactional
     public Long updatePost(Long userId, Long postId, PostRegisterRequestDto postRegisterRequestDto, List<MultipartFile> imageFiles) {
-        entityFinder.getUserById(userId);
-        Post post = entityFinder.getPostById(postId);
+        if (!postRepository.existsById(postId)) throw new CommonException(ErrorCode.NOT_FOUND_POST);
 
-        Boolean isExistDbImage = imageRepository.existsByPost(post); // DB 이미지 존재 여부
+        // 1. 변경된 이미지만 먼저 업로드 (트랜잭션 밖, 실패하면 게시글은 그대로)
+        List<ImageUploader.UploadedImage> uploadedImages = uploadImages(postId, imageFiles == null ? List.of() : imageFiles);
 
-        try {
+        // 2. 글/주제 수정과 이미지 변경을 한 트랜잭션에서 반영 (요청 이미지가 없으면 기존 이미지 모두 삭제 예약)
+        applyImages(postId, uploadedImages, post -> {
+            ETopic oldType = post.getType();
             post.setTitle(postRegisterRequestDto.title());
             post.setContent(postRegisterRequestDto.content());
             post.setType(postRegisterRequestDto.type());
+            if (oldType != post.getType()) topicHeadIndex.onPostTopicChanged(post, oldType);
+        });
+        postDetailCache.evict(postId);
 
-            if(!imageFiles.isEmpty()) { // 이미지 수정 요청 O
-                if(isExistDbImage) { // 기존 이미지 O
-                    deleteImages(post); // 기존 이미지 모두 삭제
-                    uploadImages(post.getId(), imageFiles); // 요청 이미지 모두 업로드
-                } else { // 기존 이미지 X
-                    uploadImages(post.getId(), imageFiles); // 요청 이미지 모두 업로드
-                }
-            } else if(imageFiles.isEmpty() && isExistDbImage) { // 이미지 수정 요청 X, 기존 이미지 O
-                deleteImages(post); // 기존 이미지 모두 삭제
-            }
-
-            return post.getId();
-        } catch (Exception e) {
-            throw new CommonException(ErrorCode.POST_ERROR);
-        }
+        return postId;
     }
 
-    @Transactional
     public Boolean deletePost(Long userId, Long postId) {
-        entityFinder.getUserById(userId);
-        Post post = entityFinder.getPostById(postId);
-
-        try {
-            // GCS 이미지 삭제
-            deleteImages(post);
-
-            // 게시물 삭제
+        // 게시글 삭제 (이미지 행은 ON DELETE CASCADE), GCS 이미지는 같은 트랜잭션에서 삭제 예약
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = entityFinder.getPostById(postId);
+            enqueueBlobDeletion(imageRepository.findAllByPost(post).stream()
+                    .flatMap(image -> image.getAllUrls().stream())
+                    .toList());
             postRepository.delete(post);
-
-            return true;
-        } catch (Exception e) {
-            throw new CommonException(ErrorCode.POST_ERROR);
-        }
+            topicHeadIndex.onPostDeleted(post);
+        });
+        postDetailCache.evict(postId);
+        return true;
     }
 
-    @Transactional
-    private void deleteImages(Post post) {
-        List<String> imageUrls = imageRepository.findUrlsByPost(post);
-        List<BlobId> blobIdsToDelete = new ArrayList<>();
-
-        for (String imageUrl : imageUrls) {
-            String blobName = imageUrl.substring(imageUrl.indexOf(bucketName) + bucketName.length() + 1);
-            blobIdsToDelete.add(BlobId.of(bucketName, blobName));
-        }
-
-        if (!blobIdsToDelete.isEmpty()) {
-            storage.delete(blobIdsToDelete);
-        }
+    // 호출한 트랜잭션과 함께 커밋/롤백되는 GCS 삭제 예약 (실제 삭제는 BlobDeletionWorker)
+    private void enqueueBlobDeletion(List<String> imageUrls) {
+        blobDeletionOutbox.enqueue(imageUrls.stream().map(imageUploader::toBlobName).toList());
     }
 
     @Transactional
     public Boolean reportPost(Long userId, Long postId, EReason reason) {
-        User user = entityFinder.getUserById(userId);
+        User user = entityFinder.getUserReference(userId); // 외래 키로만 사용 (조회 없음)
         Post post = entityFinder.getPostById(postId);
 
         // 해당 게시글 중복 신고 확인
@@ -254,7 +441,7 @@ public class PostService {
 
     @Transactional
     public Boolean registerComment(Long userId, Long postId, String content) {
-        User user = entityFinder.getUserById(userId);
+        User user = entityFinder.getUserReference(userId); // 외래 키로만 사용 (조회 없음)
         Post post = entityFinder.getPostById(postId);
 
         try {
@@ -264,7 +451,8 @@ public class PostService {
                     .writer(user)
                     .content(content)
                     .build());
-            post.increaseCommentCount();
+            postCommentCounter.increment(postId); // 게시글 행을 잠그지 않는 샤드 카운터
+            postDetailCache.evict(postId);
 
             return true;
         } catch (Exception e) {
@@ -275,7 +463,7 @@ public class PostService {
 
     @Transactional
     public Boolean reportComment(Long userId, Long commentId, EReason reason) {
-        User user = entityFinder.getUserById(userId);
+        User user = entityFinder.getUserReference(userId); // 외래 키로만 사용 (조회 없음)
         Comment comment = entityFinder.getCommentById(commentId);
 
         // 해당 댓글 중복 신고 확인
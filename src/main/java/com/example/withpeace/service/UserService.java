@@ -1,12 +1,18 @@
 package com.example.withpeace.service;
 
 
+import com.example.withpeace.component.BalanceGamePageCache;
+import com.example.withpeace.component.BlobDeletionOutbox;
+import com.example.withpeace.component.PostDetailCache;
+import com.example.withpeace.component.SignedUploadUrlIssuer;
 import com.example.withpeace.domain.User;
+import com.example.withpeace.dto.response.ImageUploadUrlResponseDto;
 import com.example.withpeace.dto.response.UserPolicyFilterResponseDto;
 import com.example.withpeace.dto.response.UserProfileResponseDto;
 import com.example.withpeace.exception.CommonException;
 import com.example.withpeace.exception.ErrorCode;
 import com.example.withpeace.repository.UserRepository;
+import com.example.withpeace.security.service.UserPrincipalCache;
 import com.example.withpeace.type.EPolicyClassification;
 import com.example.withpeace.type.EPolicyRegion;
 import com.google.cloud.storage.BlobId;
@@ -22,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +36,11 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserRepository userRepository;
     private final Storage storage;
+    private final UserPrincipalCache userPrincipalCache;
+    private final SignedUploadUrlIssuer signedUploadUrlIssuer;
+    private final BlobDeletionOutbox blobDeletionOutbox;
+    private final PostDetailCache postDetailCache;
+    private final BalanceGamePageCache balanceGamePageCache;
 
     @Value("${spring.cloud.gcp.storage.bucket}")
     private String bucketName;
@@ -38,6 +50,7 @@ public class UserService {
                 userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
         userRepository.delete(user);
         user.setDeleteDate();
+        userPrincipalCache.evict(userId); // 탈퇴 즉시 인증 캐시 제거
         return Boolean.TRUE;
     }
 
@@ -68,6 +81,8 @@ public class UserService {
         User user =
                 userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
         user.updateNickname(nickname);
+        postDetailCache.evictByAuthor(user.getId()); // 작성한 게시글/댓글의 상세 캐시 제거
+        balanceGamePageCache.evictAll(); // 밸런스게임 목록의 댓글 작성자 정보
         if (file != null) {
             uploadProfileImage(userId, file, user);
         }
@@ -85,6 +100,8 @@ public class UserService {
     @Transactional
     public String updateProfile(User user, String nickname, MultipartFile file) {
         user.updateNickname(nickname);
+        postDetailCache.evictByAuthor(user.getId()); // 작성한 게시글/댓글의 상세 캐시 제거
+        balanceGamePageCache.evictAll(); // 밸런스게임 목록의 댓글 작성자 정보
         if (file != null) {
             uploadProfileImage(user.getId(), file, user);
         }
@@ -96,6 +113,8 @@ public class UserService {
         User user =
                 userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
         user.updateNickname(nickname);
+        postDetailCache.evictByAuthor(user.getId()); // 작성한 게시글/댓글의 상세 캐시 제거
+        balanceGamePageCache.evictAll(); // 밸런스게임 목록의 댓글 작성자 정보
         return user.getNickname();
     }
 
@@ -111,21 +130,11 @@ public class UserService {
     @Transactional
     public void uploadProfileImage(Long userId, MultipartFile file, User user) {
         try {
-            String fileUrl;
-            String blobName;
-            if (user.getProfileImage() != null && !user.getProfileImage().equals("default.png")) {
-                String oldBlobName = user.getProfileImage().substring(user.getProfileImage().indexOf(bucketName) + bucketName.length() + 1);
-                storage.delete(BlobId.of(bucketName, oldBlobName));
-
-                int lastIndex = oldBlobName.lastIndexOf("/") + 1;
-                String folderPath = oldBlobName.substring(0, lastIndex);
-                int newIndex = Integer.parseInt(oldBlobName.substring(lastIndex)) + 1;
-                blobName = folderPath + newIndex;
-            } else {
-                blobName = "userProfile/" + userId + "/1";
-            }
-
-            fileUrl = "https://storage.googleapis.com/" + bucketName + "/" + blobName;
+            enqueueProfileImageDeletion(user.getProfileImage()); // 이전 이미지는 커밋 이후 워커가 삭제
+
+            // 직접 업로드(서명 URL)와 같은 이름 규칙 사용
+            String blobName = newProfileImageBlobName(userId);
+            String fileUrl = "https://storage.googleapis.com/" + bucketName + "/" + blobName;
 
             BlobId blobId = BlobId.of(bucketName, blobName);
             BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
@@ -134,18 +143,69 @@ public class UserService {
             storage.create(blobInfo, file.getBytes());
 
             user.updateProfileImage(fileUrl);
+            postDetailCache.evictByAuthor(userId);
+            balanceGamePageCache.evictAll();
         } catch (Exception e) {
             throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
         }
     }
 
+    /**
+     * 프로필 이미지 직접 업로드용 서명 URL 발급
+     * - blob 이름: userProfile/{userId}/{UUID}, 확인(confirmProfileImage) 전까지 프로필에 반영되지 않음
+     */
+    public ImageUploadUrlResponseDto issueProfileImageUploadUrl(Long userId, String contentType) {
+        return ImageUploadUrlResponseDto.from(null, signedUploadUrlIssuer.issue(newProfileImageBlobName(userId), contentType));
+    }
+
+    /**
+     * 직접 업로드된 프로필 이미지 확인 후 반영
+     * - 본인 경로(userProfile/{userId}/)의 blob 만 허용, 존재/형식/크기 확인
+     * - 이전 이미지는 같은 트랜잭션에서 삭제 예약
+     */
+    @Transactional
+    public String confirmProfileImage(Long userId, String blobName) {
+        String directory = profileImageDirectory(userId);
+        if (!blobName.startsWith(directory) || blobName.indexOf('/', directory.length()) >= 0) {
+            throw new CommonException(ErrorCode.ACCESS_DENIED_ERROR);
+        }
+        signedUploadUrlIssuer.verifyUploaded(List.of(blobName));
+
+        User user =
+                userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
+        String fileUrl = "https://storage.googleapis.com/" + bucketName + "/" + blobName;
+        if (!fileUrl.equals(user.getProfileImage())) {
+            enqueueProfileImageDeletion(user.getProfileImage());
+            user.updateProfileImage(fileUrl);
+            postDetailCache.evictByAuthor(userId);
+            balanceGamePageCache.evictAll();
+        }
+        return user.getProfileImage();
+    }
+
+    // 기본 이미지가 아니면 GCS 삭제 예약 (트랜잭션 롤백 시 함께 취소)
+    private void enqueueProfileImageDeletion(String profileImageUrl) {
+        if (profileImageUrl == null || profileImageUrl.equals("default.png")) return;
+        String blobName = profileImageUrl.substring(profileImageUrl.indexOf(bucketName) + bucketName.length() + 1);
+        blobDeletionOutbox.enqueue(List.of(blobName));
+    }
+
+    private String newProfileImageBlobName(Long userId) {
+        return profileImageDirectory(userId) + UUID.randomUUID();
+    }
+
+    private String profileImageDirectory(Long userId) {
+        return "userProfile/" + userId + "/";
+    }
+
     @Transactional
     public String deleteProfileImage(Long userId) {
         User user =
                 userRepository.findById(userId).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
-        String blobName = user.getProfileImage().substring(user.getProfileImage().indexOf(bucketName) + bucketName.length() + 1);
-        storage.delete(BlobId.of(bucketName, blobName));
+        enqueueProfileImageDeletion(user.getProfileImage());
         user.updateProfileImage("default.png");
+        postDetailCache.evictByAuthor(userId);
+        balanceGamePageCache.evictAll();
         return user.getProfileImage();
     }
 
@@ -161,6 +221,7 @@ public class UserService {
 
         updateUserRegion(user, region); // 관심 지역 설정
         updateUserClassification(user, classification); // 관심 분야 설정
+        userPrincipalCache.evict(userId); // 인증 캐시의 정책 필터 갱신
     }
 
     // 사용자 관심 지역(region) 정보 업데이트 (입력값이 비어있으면 관심 지역 초기화)
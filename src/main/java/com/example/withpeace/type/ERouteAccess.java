@@ -0,0 +1,23 @@
+package com.example.withpeace.type;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum ERouteAccess {
+    PUBLIC("public"),               // 인증 불필요 (JWT 필터, USER_ID 인터셉터 생략)
+    PERMIT("permit"),               // 권한 검사 없이 허용 (JWT 필터는 적용되어 유효한 토큰 필요)
+    USER("user"),                   // USER, ADMIN 권한
+    ADMIN("admin"),                 // ADMIN 권한
+    AUTHENTICATED("authenticated"); // 그 외 모든 경로 (인증 필요)
+
+    private final String tag;
+
+    @Override
+    public String toString() {
+        return this.tag;
+    }
+
+    public boolean skipsAuthentication() {
+        return this == PUBLIC;
+    }
+}
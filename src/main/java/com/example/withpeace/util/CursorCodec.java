@@ -0,0 +1,37 @@
+package com.example.withpeace.util;
+
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.exception.ErrorCode;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 인코딩/디코딩
+ * - (생성 시각, id) 를 "ISO-8601 시각|id" 문자열로 만든 뒤 URL-safe Base64 로 인코딩
+ */
+@UtilityClass
+public class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    public String encode(LocalDateTime createDate, Long id) {
+        String raw = createDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서 값은 INVALID_ARGUMENT 로 처리
+    public Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new CommonException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+
+    public record Cursor(LocalDateTime createDate, Long id) {}
+}
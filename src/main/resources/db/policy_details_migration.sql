@@ -0,0 +1,55 @@
+-- policies 테이블 수직 분할: 상세(TEXT) 컬럼을 policy_details 테이블로 이동
+-- 1. 상세 테이블 생성 (ddl-auto 로 이미 생성된 경우 생략)
+CREATE TABLE IF NOT EXISTS policy_details (
+    policy_id                  VARCHAR(255) NOT NULL,
+    operating_period           VARCHAR(512),
+    application_details        TEXT,
+    residence                  TEXT,
+    income                     VARCHAR(512),
+    education                  VARCHAR(512),
+    specialization             VARCHAR(255),
+    additional_notes           TEXT,
+    participation_restrictions TEXT,
+    application_process        TEXT,
+    screening_and_announcement TEXT,
+    application_site           TEXT,
+    submission_documents       TEXT,
+    etc                        TEXT,
+    managing_institution       VARCHAR(512),
+    operating_organization     VARCHAR(512),
+    reference_site1            VARCHAR(512),
+    reference_site2            VARCHAR(512),
+    PRIMARY KEY (policy_id),
+    CONSTRAINT fk_policy_details_policy FOREIGN KEY (policy_id) REFERENCES policies (id) ON DELETE CASCADE
+);
+
+-- 2. 기존 상세 데이터 복사
+INSERT IGNORE INTO policy_details (policy_id, operating_period, application_details, residence, income, education,
+                                   specialization, additional_notes, participation_restrictions, application_process,
+                                   screening_and_announcement, application_site, submission_documents, etc,
+                                   managing_institution, operating_organization, reference_site1, reference_site2)
+SELECT id, operating_period, application_details, residence, income, education,
+       specialization, additional_notes, participation_restrictions, application_process,
+       screening_and_announcement, application_site, submission_documents, etc,
+       managing_institution, operating_organization, reference_site1, reference_site2
+FROM policies;
+
+-- 3. 요약 테이블에서 상세 컬럼 제거
+ALTER TABLE policies
+    DROP COLUMN operating_period,
+    DROP COLUMN application_details,
+    DROP COLUMN residence,
+    DROP COLUMN income,
+    DROP COLUMN education,
+    DROP COLUMN specialization,
+    DROP COLUMN additional_notes,
+    DROP COLUMN participation_restrictions,
+    DROP COLUMN application_process,
+    DROP COLUMN screening_and_announcement,
+    DROP COLUMN application_site,
+    DROP COLUMN submission_documents,
+    DROP COLUMN etc,
+    DROP COLUMN managing_institution,
+    DROP COLUMN operating_organization,
+    DROP COLUMN reference_site1,
+    DROP COLUMN reference_site2;
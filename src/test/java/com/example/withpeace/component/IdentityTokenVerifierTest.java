@@ -0,0 +1,162 @@
+package com.example.withpeace.component;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.withpeace.exception.CommonException;
+import com.example.withpeace.security.info.VerifiedIdentity;
+import com.example.withpeace.type.EProvider;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityTokenVerifierTest {
+
+    private static final String GOOGLE_ISSUER = "https://accounts.google.com";
+
+    private HttpServer jwksServer; // 로컬 JWKS 스텁 서버
+    private final AtomicInteger jwksRequestCount = new AtomicInteger();
+    private final Map<String, KeyPair> servedKeys = new LinkedHashMap<>();
+
+    private IdentityTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servedKeys.put("key-1", generateKeyPair());
+
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/keys", exchange -> {
+            jwksRequestCount.incrementAndGet();
+            byte[] body = jwksJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.start();
+        String jwksUri = "http://localhost:" + jwksServer.getAddress().getPort() + "/keys";
+
+        verifier = new IdentityTokenVerifier();
+        ReflectionTestUtils.setField(verifier, "googleJwksUri", jwksUri);
+        ReflectionTestUtils.setField(verifier, "googleIssuers", new String[]{GOOGLE_ISSUER});
+        ReflectionTestUtils.setField(verifier, "googleAudiences", new String[]{"test-client"});
+        ReflectionTestUtils.setField(verifier, "appleJwksUri", jwksUri);
+        ReflectionTestUtils.setField(verifier, "appleIssuers", new String[]{"https://appleid.apple.com"});
+        ReflectionTestUtils.setField(verifier, "appleAudiences", new String[]{"test-apple-client"});
+        ReflectionTestUtils.setField(verifier, "refreshInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(verifier, "minRefreshInterval", Duration.ZERO);
+        verifier.init();
+
+        // 시작 시 백그라운드 키 조회가 끝날 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while (jwksRequestCount.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.destroy();
+        jwksServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("ID 토큰 검증 성공: sub, email 을 반환하고 로그인마다 JWKS 를 다시 조회하지 않음")
+    void verifyGoogleToken() {
+        // Given
+        String token = signToken("key-1", GOOGLE_ISSUER, "test-client");
+
+        // When
+        VerifiedIdentity first = verifier.verify(token, EProvider.GOOGLE);
+        int requestCount = jwksRequestCount.get();
+        VerifiedIdentity second = verifier.verify(token, EProvider.GOOGLE);
+
+        // Then
+        assertEquals("social-id", first.socialId());
+        assertEquals("user@example.com", first.email());
+        assertEquals(first, second);
+        assertEquals(requestCount, jwksRequestCount.get()); // 두 번째 검증은 캐시된 키 사용
+    }
+
+    @Test
+    @DisplayName("키 교체: 캐시에 없는 kid 는 JWKS 갱신 후 검증")
+    void verifyAfterKeyRotation() throws Exception {
+        // Given
+        verifier.verify(signToken("key-1", GOOGLE_ISSUER, "test-client"), EProvider.GOOGLE);
+        servedKeys.put("key-2", generateKeyPair());
+
+        // When
+        VerifiedIdentity identity = verifier.verify(signToken("key-2", GOOGLE_ISSUER, "test-client"), EProvider.GOOGLE);
+
+        // Then
+        assertEquals("social-id", identity.socialId());
+    }
+
+    @Test
+    @DisplayName("ID 토큰 검증 실패: 발급자 또는 대상이 다르면 예외 발생")
+    void rejectInvalidClaims() {
+        assertThrows(CommonException.class,
+                () -> verifier.verify(signToken("key-1", "https://evil.example.com", "test-client"), EProvider.GOOGLE));
+        assertThrows(CommonException.class,
+                () -> verifier.verify(signToken("key-1", GOOGLE_ISSUER, "other-client"), EProvider.GOOGLE));
+    }
+
+    private String signToken(String kid, String issuer, String audience) {
+        KeyPair keyPair = servedKeys.get(kid);
+        return JWT.create()
+                .withKeyId(kid)
+                .withIssuer(issuer)
+                .withAudience(audience)
+                .withSubject("social-id")
+                .withClaim("email", "user@example.com")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(600)))
+                .sign(Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()));
+    }
+
+    private String jwksJson() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return servedKeys.entrySet().stream()
+                .map(entry -> {
+                    RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
+                    return "{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + entry.getKey() + "\"," +
+                            "\"n\":\"" + encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray())) + "\"," +
+                            "\"e\":\"" + encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())) + "\"}";
+                })
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+
+    // BigInteger 부호 바이트 제거
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
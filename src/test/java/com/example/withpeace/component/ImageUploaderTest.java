@@ -0,0 +1,223 @@
+package com.example.withpeace.component;
+
+import com.example.withpeace.exception.CommonException;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImageUploaderTest {
+
+    private final Storage storage = mock(Storage.class);
+    private final Map<String, ByteArrayOutputStream> uploaded = new ConcurrentHashMap<>(); // 로컬 가짜 버킷
+
+    private ImageUploader imageUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(storage.writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class))).thenAnswer(invocation -> {
+            BlobInfo blobInfo = invocation.getArgument(0);
+            if (blobInfo.getName().contains(sha256("broken"))) throw new IllegalStateException("upload failed");
+            if (blobInfo.getName().contains(sha256("shared"))) return existingWriter();
+            return fakeWriter(blobInfo.getName());
+        });
+
+        imageUploader = new ImageUploader(storage, new ImageResizer(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(imageUploader, "bucketName", "bucket");
+        ReflectionTestUtils.setField(imageUploader, "threadCount", 2);
+        ReflectionTestUtils.setField(imageUploader, "queueCapacity", 8);
+        ReflectionTestUtils.setField(imageUploader, "chunkSize", 256 * 1024);
+        ReflectionTestUtils.setField(imageUploader, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(imageUploader, "processingThreadCount", 1);
+        ReflectionTestUtils.setField(imageUploader, "processingTimeout", Duration.ofSeconds(5));
+        imageUploader.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageUploader.stop();
+    }
+
+    @Test
+    @DisplayName("여러 파일을 병렬 스트리밍 업로드하고 요청 순서대로 내용 해시 이름 반환")
+    void uploadInOrder() {
+        // When
+        List<String> blobNames = imageUploader.upload("postImage/1/", List.of(image("a.png", "first"), image("b.png", "second")))
+                .stream().map(ImageUploader.UploadedImage::blobName).toList();
+
+        // Then
+        assertEquals(2, blobNames.size());
+        assertEquals("postImage/1/" + sha256("first") + ".png", blobNames.get(0));
+        assertEquals("postImage/1/" + sha256("second") + ".png", blobNames.get(1));
+        assertEquals("first", uploaded.get(blobNames.get(0)).toString(StandardCharsets.UTF_8));
+        assertEquals("second", uploaded.get(blobNames.get(1)).toString(StandardCharsets.UTF_8));
+        assertEquals("https://storage.googleapis.com/bucket/" + blobNames.get(0), imageUploader.toUrl(blobNames.get(0)));
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 256px, 720px 축소본을 원본 옆에 저장")
+    void uploadVariants() throws IOException {
+        // Given
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+
+        // When
+        ImageUploader.UploadedImage uploadedImage = imageUploader.upload("postImage/1/",
+                List.of(new MockMultipartFile("imageFiles", "photo.png", "image/png", png.toByteArray()))).get(0);
+
+        // Then
+        assertTrue(uploadedImage.thumbnailBlobName().startsWith("postImage/1/"));
+        assertEquals(uploadedImage.blobName().replace(".png", "_256.jpg"), uploadedImage.thumbnailBlobName()); // 투명도 없으면 JPEG
+        assertEquals(uploadedImage.blobName().replace(".png", "_720.jpg"), uploadedImage.mediumBlobName());
+        verify(storage, times(2)).create(any(BlobInfo.class), any(byte[].class), any(Storage.BlobTargetOption[].class));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용과 요청 내 중복 이미지는 다시 업로드하지 않음")
+    void skipExistingContent() {
+        // When
+        List<ImageUploader.UploadedImage> uploadedImages = imageUploader.upload("postImage/1/",
+                List.of(image("a.png", "first"), image("b.png", "second"), image("c.png", "second")),
+                Set.of(sha256("first")));
+
+        // Then
+        assertFalse(uploadedImages.get(0).isUploaded());
+        assertEquals(sha256("first"), uploadedImages.get(0).contentHash());
+        assertTrue(uploadedImages.get(1).isUploaded());
+        assertEquals(uploadedImages.get(1), uploadedImages.get(2));
+        verify(storage, times(1)).writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class));
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 업로드된 파일 삭제 후 예외 발생")
+    @SuppressWarnings("unchecked")
+    void compensateOnFailure() {
+        // When
+        assertThrows(CommonException.class,
+                () -> imageUploader.upload("postImage/1/", List.of(image("a.png", "first"), image("b.png", "broken"))));
+
+        // Then
+        ArgumentCaptor<List<BlobId>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storage, timeout(1000)).delete(captor.capture());
+        assertEquals(List.of("postImage/1/" + sha256("first") + ".png"),
+                captor.getValue().stream().map(BlobId::getName).toList());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 저장한 같은 내용의 파일은 실패해도 삭제하지 않음")
+    @SuppressWarnings("unchecked")
+    void compensateOnlyCreatedBlobs() {
+        // When
+        assertThrows(CommonException.class, () -> imageUploader.upload("postImage/1/",
+                List.of(image("a.png", "first"), image("b.png", "shared"), image("c.png", "broken"))));
+
+        // Then
+        ArgumentCaptor<List<BlobId>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storage, timeout(1000)).delete(captor.capture());
+        assertEquals(List.of("postImage/1/" + sha256("first") + ".png"),
+                captor.getValue().stream().map(BlobId::getName).toList());
+    }
+
+    @Test
+    @DisplayName("축소본 처리 시간 초과 시 원본만 사용하고 늦게 끝난 축소본은 삭제")
+    @SuppressWarnings("unchecked")
+    void discardLateVariants() throws IOException, InterruptedException {
+        // Given: 축소본 업로드가 처리 시간 초과 이후에 끝남
+        ReflectionTestUtils.setField(imageUploader, "processingTimeout", Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(storage.create(any(BlobInfo.class), any(byte[].class), any(Storage.BlobTargetOption[].class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+
+        // When
+        ImageUploader.UploadedImage uploadedImage = imageUploader.upload("postImage/1/",
+                List.of(new MockMultipartFile("imageFiles", "photo.png", "image/png", png.toByteArray()))).get(0);
+        release.countDown();
+
+        // Then: 결과에 축소본이 없고, 시간 초과 후 생성된 축소본 하나만 삭제 (남은 축소본은 생성하지 않음)
+        assertNull(uploadedImage.thumbnailBlobName());
+        assertNull(uploadedImage.mediumBlobName());
+        ArgumentCaptor<List<BlobId>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storage, timeout(1000)).delete(captor.capture());
+        List<String> deleted = captor.getValue().stream().map(BlobId::getName).toList();
+        assertEquals(1, deleted.size());
+        assertTrue(deleted.get(0).matches(uploadedImage.blobName().replace(".png", "") + "_(256|720)\\.jpg"));
+        verify(storage, times(1)).create(any(BlobInfo.class), any(byte[].class), any(Storage.BlobTargetOption[].class));
+    }
+
+    private static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockMultipartFile image(String name, String content) {
+        return new MockMultipartFile("imageFiles", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // doesNotExist 조건으로 인해 닫을 때 412 발생
+    private WriteChannel existingWriter() throws IOException {
+        WriteChannel writer = mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer source = invocation.getArgument(0);
+            int length = source.remaining();
+            source.position(source.limit());
+            return length;
+        });
+        doThrow(new StorageException(412, "Precondition Failed")).when(writer).close();
+        return writer;
+    }
+
+    private WriteChannel fakeWriter(String blobName) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        uploaded.put(blobName, buffer);
+
+        WriteChannel writer = mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer source = invocation.getArgument(0);
+            int length = source.remaining();
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            buffer.write(bytes);
+            return length;
+        });
+        return writer;
+    }
+}
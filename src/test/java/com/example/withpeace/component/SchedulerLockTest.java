@@ -0,0 +1,66 @@
+package com.example.withpeace.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SchedulerLockTest {
+
+    private static final Duration LEASE_TIME = Duration.ofMillis(300);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final SchedulerLock schedulerLock = new SchedulerLock(redisTemplate);
+
+    @AfterEach
+    void tearDown() {
+        schedulerLock.stop();
+    }
+
+    @Test
+    @DisplayName("연장이 계속 성공하면 lease 시간이 지나도 보유 상태 유지")
+    @SuppressWarnings("unchecked")
+    void keepLeaseWhileRenewing() throws InterruptedException {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // When
+        SchedulerLock.Lease lease = schedulerLock.tryAcquire("job", LEASE_TIME).orElseThrow();
+        Thread.sleep(LEASE_TIME.toMillis() * 2);
+
+        // Then
+        assertTrue(lease.isHeld());
+        lease.close();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 연장이 계속 실패하면 키 만료 전에 보유하지 않은 것으로 판단")
+    @SuppressWarnings("unchecked")
+    void loseLeaseWhenRenewalKeepsFailing() throws InterruptedException {
+        // Given: 획득만 성공하고 이후 연장/해제는 모두 실패
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(1L)
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When
+        SchedulerLock.Lease lease = schedulerLock.tryAcquire("job", LEASE_TIME).orElseThrow();
+        assertTrue(lease.isHeld());
+        Thread.sleep(LEASE_TIME.toMillis() * 4 / 5 + 20); // lease 의 80% 경과
+
+        // Then: Redis 키가 만료되는 LEASE_TIME 이전에 false
+        assertFalse(lease.isHeld());
+        verify(redisTemplate, atLeastOnce()).execute(any(RedisScript.class), eq(List.of("scheduler:lock:job")), any(Object[].class));
+        lease.close();
+    }
+}
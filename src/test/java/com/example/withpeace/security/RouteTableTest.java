@@ -0,0 +1,40 @@
+package com.example.withpeace.security;
+
+import com.example.withpeace.type.ERouteAccess;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteTableTest {
+
+    private final RouteTable routeTable = new RouteTable();
+
+    @Test
+    @DisplayName("정확한 경로는 접두사 경로보다 우선")
+    void exactRouteOverridesPrefix() {
+        assertEquals(ERouteAccess.PUBLIC, routeTable.classify("/api/v1/auth/google"));
+        assertEquals(ERouteAccess.PUBLIC, routeTable.classify("/api/v1/users/recovery"));
+        assertEquals(ERouteAccess.PUBLIC, routeTable.classify("/actuator/prometheus"));
+        assertEquals(ERouteAccess.PERMIT, routeTable.classify("/actuator/health"));
+    }
+
+    @Test
+    @DisplayName("접두사 경로는 하위 경로와 접두사 자체에 일치")
+    void prefixRoutes() {
+        assertEquals(ERouteAccess.PERMIT, routeTable.classify("/api/v1/auth/register"));
+        assertEquals(ERouteAccess.USER, routeTable.classify("/api/v1/users/profile"));
+        assertEquals(ERouteAccess.USER, routeTable.classify("/api/v1/users"));
+        assertEquals(ERouteAccess.ADMIN, routeTable.classify("/api/v1/admin/jobs"));
+        assertEquals(ERouteAccess.PUBLIC, routeTable.classify("/guest/policies"));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경로는 인증 필요")
+    void defaultsToAuthenticated() {
+        assertEquals(ERouteAccess.AUTHENTICATED, routeTable.classify("/api/v1/policies"));
+        assertEquals(ERouteAccess.AUTHENTICATED, routeTable.classify("/api/v1/posts/1"));
+        assertEquals(ERouteAccess.USER, routeTable.classify("/api/v1/posts/register"));
+        assertEquals(ERouteAccess.AUTHENTICATED, routeTable.classify("/"));
+    }
+}
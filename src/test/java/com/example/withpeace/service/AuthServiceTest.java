@@ -9,7 +9,8 @@ import com.example.withpeace.repository.UserRepository;
 import com.example.withpeace.type.EProvider;
 import com.example.withpeace.type.ERole;
 import com.example.withpeace.component.JwtUtil;
-import com.example.withpeace.component.OAuth2Util;
+import com.example.withpeace.component.IdentityTokenVerifier;
+import com.example.withpeace.security.info.VerifiedIdentity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,7 +40,7 @@ class AuthServiceTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private OAuth2Util oAuth2Util;
+    private IdentityTokenVerifier identityTokenVerifier;
 
     @Test
     @DisplayName("사용자 로그인 성공: 유효한 액세스 토큰과 사용자를 제공했을 때 로그인이 성공적으로 이루어지는지를 검증")
@@ -49,7 +50,8 @@ class AuthServiceTest {
         EProvider loginProvider = EProvider.GOOGLE;
         String socialId = "valid_socialId";
 
-        given(oAuth2Util.getGoogleUserIdToken(accessToken)).willReturn(socialId); // socialId를 반환하도록 목 설정
+        given(identityTokenVerifier.verify(accessToken, loginProvider))
+                .willReturn(new VerifiedIdentity(socialId, null)); // socialId를 반환하도록 목 설정
         given(userRepository.findBySocialIdAndEProvider(socialId, loginProvider)).willReturn(Optional.empty()); // 사용자를 찾을 때 빈 Optional을 반환하도록 목 설정
 
         User user = User.builder()
@@ -68,7 +70,7 @@ class AuthServiceTest {
         // Then
         assertNotNull(result); // 반환된 결과가 null이 아닌지 확인
         assertEquals(jwtTokenDto, result.jwtTokenDto()); // 반환된 JWT 토큰이 예상한 JWT 토큰과 일치하는지 검증
-        verify(oAuth2Util, times(1)).getGoogleUserIdToken(accessToken);
+        verify(identityTokenVerifier, times(1)).verify(accessToken, loginProvider);
         verify(userRepository, times(1)).findBySocialIdAndEProvider(socialId, loginProvider);
         verify(jwtUtil, times(1)).generateTokens(user.getId(), user.getRole());
     }